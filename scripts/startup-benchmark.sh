@@ -0,0 +1,101 @@
+#!/usr/bin/env bash
+#
+# 기동 시간 벤치마크 (프로세스 시작 -> 첫 요청 성공까지)
+# - 모드마다 RUNS 회 기동해 /actuator/health 가 200 을 돌려준 시점까지의 시간(ms)을 잰다.
+# - DB/Redis 가 떠 있어야 한다. (docker compose up -d)
+#
+# 사용법
+#   ./gradlew bootJar cdsArchive                  # 압축 해제 jar + CDS 아카이브
+#   ./gradlew -Paot bootJar cdsArchive            # + Spring AOT (아카이브도 AOT 기준으로 다시 생성)
+#   scripts/startup-benchmark.sh [모드...]        # 기본: jar extracted cds
+#
+# 모드
+#   jar        : bootJar 그대로 (java -jar)
+#   extracted  : 압축 해제된 jar (build/cds/app)
+#   cds        : 압축 해제 + -XX:SharedArchiveFile
+#   aot        : 압축 해제 + -Dspring.aot.enabled=true (-Paot 로 빌드한 경우)
+#   aot-cds    : aot + -XX:SharedArchiveFile (-Paot 로 만든 아카이브)
+#   lazy-cds   : cds + spring.main.lazy-initialization=true
+#
+# 환경 변수: RUNS (기본 5), PORT (기본 8081), MANAGEMENT_PORT (기본 9081), JAVA_OPTS, POSTGRES_PASSWORD,
+#           JWT_KEY_STORE (미설정 시 임시 서명 키)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-8081}
+MANAGEMENT_PORT=${MANAGEMENT_PORT:-9081}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+CDS_DIR=build/cds/app
+APP_JAR=$CDS_DIR/user-service.jar
+ARCHIVE=$CDS_DIR/user-service.jsa
+BOOT_JAR=$(ls build/libs/*-SNAPSHOT.jar 2>/dev/null | grep -v -- '-plain\|-jmh' | head -1 || true)
+# 액추에이터는 관리 포트로만 노출된다.
+HEALTH_URL="http://localhost:$MANAGEMENT_PORT/actuator/health"
+# 키 저장소 없이 측정할 때는 임시 서명 키 허용 (운영 설정은 키 저장소 필수)
+if [ -z "${JWT_KEY_STORE:-}" ]; then
+  export JWT_EPHEMERAL_KEY=${JWT_EPHEMERAL_KEY:-true}
+fi
+
+command_for() {
+  case "$1" in
+    jar)       echo "-jar $BOOT_JAR" ;;
+    extracted) echo "-jar $APP_JAR" ;;
+    cds)       echo "-XX:SharedArchiveFile=$ARCHIVE -jar $APP_JAR" ;;
+    aot)       echo "-Dspring.aot.enabled=true -jar $APP_JAR" ;;
+    aot-cds)   echo "-Dspring.aot.enabled=true -XX:SharedArchiveFile=$ARCHIVE -jar $APP_JAR" ;;
+    lazy-cds)  echo "-Dspring.main.lazy-initialization=true -XX:SharedArchiveFile=$ARCHIVE -jar $APP_JAR" ;;
+    *) echo "알 수 없는 모드: $1" >&2; exit 1 ;;
+  esac
+}
+
+now_ms() {
+  date +%s%3N
+}
+
+# 한 번 기동해 첫 요청 성공까지 걸린 시간(ms) 출력
+measure() {
+  local args=$1 log=build/cds/startup-$2.log
+  local start pid elapsed
+  start=$(now_ms)
+  # shellcheck disable=SC2086
+  "$JAVA" ${JAVA_OPTS:-} $args --server.port="$PORT" --management.server.port="$MANAGEMENT_PORT" >"$log" 2>&1 &
+  pid=$!
+
+  until curl -sf -o /dev/null "$HEALTH_URL"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "기동 실패 (로그: $log)" >&2
+      return 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(now_ms) - start ))
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$elapsed"
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+modes=("$@")
+if [ ${#modes[@]} -eq 0 ]; then
+  modes=(jar extracted cds)
+fi
+
+mkdir -p build/cds
+printf '%-10s %10s %10s %10s   %s\n' mode median min max "runs(ms)"
+for mode in "${modes[@]}"; do
+  args=$(command_for "$mode")
+  results=()
+  for _ in $(seq "$RUNS"); do
+    results+=("$(measure "$args" "$mode")")
+  done
+  sorted=$(printf '%s\n' "${results[@]}" | sort -n)
+  printf '%-10s %10s %10s %10s   %s\n' "$mode" \
+    "$(printf '%s\n' "${results[@]}" | median)" \
+    "$(echo "$sorted" | head -1)" "$(echo "$sorted" | tail -1)" "${results[*]}"
+done
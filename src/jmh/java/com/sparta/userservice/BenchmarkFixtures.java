@@ -0,0 +1,55 @@
+package com.sparta.userservice;
+
+import com.sparta.userservice.domain.User;
+import com.sparta.userservice.global.cache.UserSnapshot;
+import com.sparta.userservice.global.security.jwt.JwtProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.sparta.userservice.domain.UserRole.HUB_MANAGER;
+import static com.sparta.userservice.domain.UserStatus.APPROVE;
+
+/**
+ * 벤치마크 공통 픽스처
+ */
+public final class BenchmarkFixtures {
+
+    public static final String SESSION_ID = "5e551011d0c0ffee";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static JwtProvider jwtProvider() {
+        JwtProvider jwtProvider = new JwtProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtProvider, "issuer", "user-service");
+        ReflectionTestUtils.setField(jwtProvider, "ephemeralKey", true);
+        ReflectionTestUtils.setField(jwtProvider, "verificationCacheSize", 10_000L);
+        ReflectionTestUtils.setField(jwtProvider, "verificationCacheMaxTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(jwtProvider, "sessionMaxLifetime", Duration.ofDays(30));
+        jwtProvider.init();
+        return jwtProvider;
+    }
+
+    public static User user() {
+        return User.builder()
+                .userId(1L)
+                .username("hub1234")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z0Zq0rQbMqSxQKFQG4z4a4yS")
+                .name("허브관리자")
+                .email("hub1234@sparta.com")
+                .role(HUB_MANAGER)
+                .status(APPROVE)
+                .slackAccountId("U0123456789")
+                .hubId(UUID.fromString("8c0f1e4e-2b7a-4d0e-9d5f-1a2b3c4d5e6f"))
+                .isDeliveryManager(false)
+                .version(0L)
+                .build();
+    }
+
+    public static UserSnapshot snapshot() {
+        return UserSnapshot.from(user());
+    }
+}
@@ -0,0 +1,33 @@
+package com.sparta.userservice.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.userservice.BenchmarkFixtures;
+import com.sparta.userservice.dto.response.GetUserResDto;
+import com.sparta.userservice.global.cache.UserSnapshot;
+import com.sparta.userservice.global.response.ApiResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 조회 응답 생성 + JSON 직렬화 (GET /v1/users/{userId}, /v1/users/me)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GetUserResDtoBenchmark {
+
+    private ObjectMapper objectMapper;
+    private UserSnapshot user;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        user = BenchmarkFixtures.snapshot();
+    }
+
+    @Benchmark
+    public byte[] fromAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(new ApiResponse<>(GetUserResDto.from(user)));
+    }
+}
@@ -0,0 +1,51 @@
+package com.sparta.userservice.global.security.jwt;
+
+import com.sparta.userservice.BenchmarkFixtures;
+import com.sparta.userservice.global.cache.UserSnapshot;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/검증 (로그인, 인가 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private UserSnapshot user;
+    private String access;
+    private VerifiedToken refresh;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = BenchmarkFixtures.jwtProvider();
+        user = BenchmarkFixtures.snapshot();
+        access = jwtProvider.createAccessToken(user, BenchmarkFixtures.SESSION_ID);
+        refresh = jwtProvider.verify(jwtProvider.createRefreshToken(user, BenchmarkFixtures.SESSION_ID));
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtProvider.createAccessToken(user, BenchmarkFixtures.SESSION_ID);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtProvider.createRefreshToken(user, BenchmarkFixtures.SESSION_ID);
+    }
+
+    // 토큰 재발급 (회원 스냅샷으로 클레임 생성 + 서명 2회)
+    @Benchmark
+    public TokenPair rotate() {
+        return jwtProvider.rotate(refresh, user);
+    }
+
+    @Benchmark
+    public Claims validateAndParse() {
+        return jwtProvider.validateAndParse(access);
+    }
+}
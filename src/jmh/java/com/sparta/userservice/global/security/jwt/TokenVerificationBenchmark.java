@@ -0,0 +1,46 @@
+package com.sparta.userservice.global.security.jwt;
+
+import com.sparta.userservice.BenchmarkFixtures;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 토큰 검증 비용
+ * - parseTwicePerRequest: 기존 방식 (필터 + isBlacklisted 에서 각각 파싱)
+ * - parseOncePerRequest: 요청당 1회 파싱
+ * - verifyCached: 검증 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenVerificationBenchmark {
+
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = BenchmarkFixtures.jwtProvider();
+        token = jwtProvider.createAccessToken(BenchmarkFixtures.snapshot(), BenchmarkFixtures.SESSION_ID);
+        jwtProvider.verify(token);
+    }
+
+    @Benchmark
+    public void parseTwicePerRequest(Blackhole bh) {
+        bh.consume(jwtProvider.validateAndParse(token));
+        bh.consume(jwtProvider.validateAndParse(token));
+    }
+
+    @Benchmark
+    public Claims parseOncePerRequest() {
+        return jwtProvider.validateAndParse(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return jwtProvider.verify(token);
+    }
+}
@@ -0,0 +1,96 @@
+package com.sparta.userservice.global.security.jwt.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.userservice.BenchmarkFixtures;
+import com.sparta.userservice.global.cache.BlacklistNearCache;
+import com.sparta.userservice.global.cache.SlackAccountCache;
+import com.sparta.userservice.global.cache.UserCache;
+import com.sparta.userservice.global.security.jwt.JwtProvider;
+import com.sparta.userservice.global.security.jwt.user.PrincipalMode;
+import com.sparta.userservice.global.security.jwt.user.UserDetailsServiceImpl;
+import com.sparta.userservice.repository.UserRepository;
+import com.sparta.userservice.service.TokenRedisService;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+/**
+ * 인가 필터 전체 경로 (Redis, 회원 저장소는 목 객체)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthorizationFilterBenchmark {
+
+    @Param({"CLAIMS", "DATABASE"})
+    public PrincipalMode principalMode;
+
+    private JwtAuthorizationFilter filter;
+    private String bearer;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(redis.hasKey(anyString())).thenReturn(false);
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(BenchmarkFixtures.user()));
+
+        BlacklistNearCache blacklistNearCache = new BlacklistNearCache(100_000, Duration.ofSeconds(30), 100_000, 0.01, Duration.ofMinutes(15));
+        blacklistNearCache.markSynced(blacklistNearCache.syncEpoch());
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("redis");
+        UserCache userCache = new UserCache(
+                redis, new ObjectMapper(), userRepository,
+                new SlackAccountCache(userRepository, 10_000, Duration.ofMinutes(5)),
+                circuitBreaker,
+                10_000, Duration.ofSeconds(30), Duration.ofMinutes(10)
+        );
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtProvider jwtProvider = BenchmarkFixtures.jwtProvider();
+        filter = new JwtAuthorizationFilter(
+                jwtProvider,
+                new UserDetailsServiceImpl(userCache, userRepository),
+                new TokenRedisService(
+                        redis, blacklistNearCache, jwtProvider, 5,
+                        circuitBreaker, TokenRedisService.FailurePolicy.FAIL_OPEN, 10_000,
+                        meterRegistry
+                ),
+                principalMode,
+                meterRegistry
+        );
+        bearer = "Bearer " + jwtProvider.createAccessToken(BenchmarkFixtures.snapshot(), BenchmarkFixtures.SESSION_ID);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/users/me");
+        request.addHeader(AUTHORIZATION, bearer);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,145 @@
+package com.sparta.userservice.repository;
+
+import com.sparta.userservice.domain.User;
+import com.sparta.userservice.domain.UserIdGenerator;
+import com.sparta.userservice.domain.UserRole;
+import com.sparta.userservice.domain.UserStatus;
+import com.sparta.userservice.global.cache.UserCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 회원 대량 저장 - 실제 User 엔티티 매핑(@UserIdSequence, pooled) + Hibernate 설정으로 persist (PostgreSQL 필요)
+ * - batchSize=1  : JDBC 배치 없음, 행마다 INSERT 왕복 (IDENTITY 매핑일 때와 같은 왕복 수)
+ * - batchSize=50 : application.yml 설정 (JDBC 배치 50 + reWriteBatchedInserts)
+ * 스키마는 db/migration/V1 을 별도 스키마(jmh_user_insert)에 적용하고 ddl-auto=validate 로 매핑을 확인한다.
+ * <p>
+ * 접속 정보: -Djmh.db.url, -Djmh.db.username, -Djmh.db.password
+ * rows/s 는 ops/s * rows 로 계산한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserInsertBenchmark {
+
+    private static final String SCHEMA = "jmh_user_insert";
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    @Param({"1000"})
+    public int rows;
+
+    private DriverManagerDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+    private long sequence;
+
+    @Setup
+    public void setUp() throws SQLException {
+        dataSource = new DriverManagerDataSource(
+                System.getProperty("jmh.db.url", "jdbc:postgresql://localhost:5433/postgres?reWriteBatchedInserts=true"),
+                System.getProperty("jmh.db.username", "postgres"),
+                System.getProperty("jmh.db.password", System.getenv("POSTGRES_PASSWORD"))
+        );
+        createSchema();
+
+        // UserCacheListener 는 스프링 빈 컨테이너로 생성 (커밋 후 캐시 갱신은 목 객체)
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("userCache", mock(UserCache.class));
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(User.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // 스프링 부트 기본 네이밍 + application.yml 의 spring.jpa.properties 와 같은 값
+        factoryBean.setJpaPropertyMap(Map.ofEntries(
+                Map.entry(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory)),
+                Map.entry(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName()),
+                Map.entry(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName()),
+                Map.entry(AvailableSettings.DEFAULT_SCHEMA, SCHEMA),
+                Map.entry(AvailableSettings.HBM2DDL_AUTO, "validate"),
+                Map.entry(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize),
+                Map.entry(AvailableSettings.BATCH_VERSIONED_DATA, true),
+                Map.entry(AvailableSettings.ORDER_INSERTS, true),
+                Map.entry(AvailableSettings.ORDER_UPDATES, true),
+                Map.entry(UserIdGenerator.INCREMENT_SIZE_SETTING, UserIdGenerator.DEFAULT_INCREMENT_SIZE)
+        ));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        factoryBean.destroy();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+    }
+
+    /**
+     * 트랜잭션 1회에 rows 건 persist (영속성 컨텍스트는 50건마다 비움)
+     */
+    @Benchmark
+    public int persist() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(newUser(++sequence));
+                if ((i + 1) % 50 == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.getTransaction().commit();
+            return rows;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private void createSchema() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__create_users.sql"));
+        }
+    }
+
+    private static User newUser(long n) {
+        String key = Long.toString(n, 36);
+        return User.builder()
+                .username("u" + key)
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z0Zq0rQbMqSxQKFQG4z4a4yS")
+                .name("벤치" + key)
+                .email("u" + key + "@example.com")
+                .role(UserRole.HUB_MANAGER)
+                .status(UserStatus.APPROVE)
+                .slackAccountId("U" + key)
+                .isDeliveryManager(false)
+                .build();
+    }
+}
@@ -3,20 +3,17 @@ package com.sparta.userservice.controller;
 import com.sparta.userservice.dto.request.FindIdReqDto;
 import com.sparta.userservice.dto.request.FindPwReqDto;
 import com.sparta.userservice.dto.request.SignUpReqDto;
-import com.sparta.userservice.global.security.jwt.user.UserDetailsImpl;
+import com.sparta.userservice.global.security.jwt.TokenPair;
 import com.sparta.userservice.service.AuthService;
-import com.sparta.userservice.service.TokenRedisService;
+import com.sparta.userservice.service.TokenService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.util.StringUtils;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
+import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
 @RestController
@@ -25,9 +22,10 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 public class AuthController {
 
     private final AuthService authService;
-    private final TokenRedisService tokenRedisService;
+    private final TokenService tokenService;
 
     private static final String BEARER = "Bearer ";
+    private static final String REFRESH_TOKEN_HEADER = "X-Refresh-Token";
 
     @PostMapping("/sign-up")
     public ResponseEntity<?> signUp(@Valid @RequestBody SignUpReqDto requestDto) {
@@ -46,18 +44,27 @@ public class AuthController {
         return ResponseEntity.ok(authService.findPw(requestDto));
     }
 
+    /**
+     * 토큰 재발급 (X-Refresh-Token 헤더, 응답 헤더는 로그인과 동일)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestHeader(REFRESH_TOKEN_HEADER) String refreshToken) {
+        TokenPair pair = tokenService.refresh(refreshToken);
+
+        return ResponseEntity.ok()
+                .header(AUTHORIZATION, BEARER + pair.access())
+                .header(REFRESH_TOKEN_HEADER, pair.refresh())
+                .header(ACCESS_CONTROL_EXPOSE_HEADERS, AUTHORIZATION + ", " + REFRESH_TOKEN_HEADER)
+                .build();
+    }
+
     @PostMapping("/sign-out")
-    public ResponseEntity<?> signOut(HttpServletRequest request, Authentication auth) {
+    public ResponseEntity<?> signOut(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION);
 
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER)) {
-            String access = bearerToken.substring(BEARER.length());
-            tokenRedisService.blackListAccess(access);
-        }
-
-        if (auth != null && auth.getPrincipal() instanceof UserDetailsImpl userDetails) {
-            String userId = String.valueOf(userDetails.getUser().getUserId());
-            tokenRedisService.deleteRefresh(userId);
+            // 블랙리스트 등록 + 리프레시 토큰 삭제 (Redis 왕복 1회)
+            tokenService.signOut(bearerToken.substring(BEARER.length()));
         }
 
         return ResponseEntity.ok().build();
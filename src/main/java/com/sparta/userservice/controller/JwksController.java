@@ -0,0 +1,37 @@
+package com.sparta.userservice.controller;
+
+import com.sparta.userservice.global.security.jwt.JwtKeySet;
+import com.sparta.userservice.global.security.jwt.JwtProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * JWT 검증 공개키 (JWKS)
+ * - 게이트웨이/다른 서비스가 kid 로 공개키를 찾아 토큰을 직접 검증한다.
+ * - 문서는 기동 시 한 번 직렬화하고, ETag 가 같으면 304 로 응답한다.
+ */
+@RestController
+public class JwksController {
+
+    private final JwtKeySet keySet;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtProvider jwtProvider, @Value("${jwt.jwks.max-age:PT5M}") Duration maxAge) {
+        this.keySet = jwtProvider.getKeySet();
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(keySet.jwksETag())
+                .body(keySet.jwks());
+    }
+}
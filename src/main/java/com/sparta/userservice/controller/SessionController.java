@@ -0,0 +1,58 @@
+package com.sparta.userservice.controller;
+
+import com.sparta.userservice.dto.response.GetSessionsResDto;
+import com.sparta.userservice.global.response.ApiResponse;
+import com.sparta.userservice.global.security.jwt.VerifiedToken;
+import com.sparta.userservice.service.TokenService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 본인 로그인 세션 (기기) 관리
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/users/me/sessions")
+public class SessionController {
+
+    private final TokenService tokenService;
+
+    /**
+     * 세션 목록 (최근 사용 순, current: 현재 요청 세션)
+     */
+    @GetMapping
+    public ApiResponse<GetSessionsResDto> getSessions(HttpServletRequest request) {
+        return new ApiResponse<>(tokenService.getSessions(currentToken(request)));
+    }
+
+    /**
+     * 기기별 로그아웃
+     */
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<?> revokeSession(@PathVariable(name = "sessionId") String sessionId, HttpServletRequest request) {
+        tokenService.revokeSession(currentToken(request), sessionId);
+
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 전체 기기 로그아웃 (현재 세션 포함)
+     */
+    @DeleteMapping
+    public ResponseEntity<?> revokeAllSessions(HttpServletRequest request) {
+        tokenService.revokeAllSessions(currentToken(request));
+
+        return ResponseEntity.ok().build();
+    }
+
+    // =========================== 유틸 메서드 ===========================
+
+    /**
+     * 인가 필터에서 검증한 토큰 (인증된 요청에만 도달)
+     */
+    private static VerifiedToken currentToken(HttpServletRequest request) {
+        return (VerifiedToken) request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE);
+    }
+}
@@ -2,39 +2,56 @@ package com.sparta.userservice.controller;
 
 import com.sparta.userservice.dto.request.ApproveUsersReqDto;
 import com.sparta.userservice.dto.request.CreateUserReqDto;
+import com.sparta.userservice.dto.request.GetSlackAccountIdsReqDto;
 import com.sparta.userservice.dto.request.RejectUsersReqDto;
+import com.sparta.userservice.dto.request.SearchUsersReqDto;
 import com.sparta.userservice.dto.response.CreateUserResDto;
 import com.sparta.userservice.dto.response.GetSlackAccountIdResDto;
+import com.sparta.userservice.dto.response.GetSlackAccountIdsResDto;
 import com.sparta.userservice.dto.response.GetUserResDto;
+import com.sparta.userservice.dto.response.GetUsersResDto;
 import com.sparta.userservice.global.response.ApiResponse;
+import com.sparta.userservice.service.UserImportService;
 import com.sparta.userservice.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/v1/users")
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
 
     /**
      * 회원 가입 일괄 승인
      */
-    @PostMapping("approve")
-    public ResponseEntity<?> approveUsers(@Valid @RequestBody ApproveUsersReqDto requestDto, Authentication auth) {
-        return ResponseEntity.ok(userService.approveUsers(requestDto, auth));
+    @PostMapping(value = "approve", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void approveUsers(
+            @Valid @RequestBody ApproveUsersReqDto requestDto, Authentication auth, HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        userService.approveUsers(requestDto, auth, response.getOutputStream());
     }
 
     /**
      * 회원 가입 일괄 거절
      */
-    @PostMapping("/reject")
-    public ResponseEntity<?> rejectUsers(@Valid @RequestBody RejectUsersReqDto requestDto, Authentication auth) {
-        return ResponseEntity.ok(userService.rejectUsers(requestDto, auth));
+    @PostMapping(value = "/reject", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void rejectUsers(
+            @Valid @RequestBody RejectUsersReqDto requestDto, Authentication auth, HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        userService.rejectUsers(requestDto, auth, response.getOutputStream());
     }
 
     /**
@@ -47,6 +64,33 @@ public class UserController {
         return new ApiResponse<>(userService.createUser(requestDto, auth));
     }
 
+    /**
+     * 회원 대량 등록 (관리자)
+     * - CSV(첫 줄 헤더) 또는 NDJSON 을 스트리밍으로 읽고, 행 단위 결과를 NDJSON 으로 스트리밍한다.
+     */
+    @PostMapping(
+            value = "/import",
+            consumes = {UserImportService.FORMAT_CSV, UserImportService.FORMAT_NDJSON},
+            produces = UserImportService.FORMAT_NDJSON
+    )
+    public void importUsers(HttpServletRequest request, HttpServletResponse response, Authentication auth) throws IOException {
+        response.setContentType(UserImportService.FORMAT_NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        userImportService.importUsers(
+                MediaType.parseMediaType(request.getContentType()).getSubtype().equals("csv")
+                        ? UserImportService.FORMAT_CSV : UserImportService.FORMAT_NDJSON,
+                request.getInputStream(), response.getOutputStream(), auth
+        );
+    }
+
+    /**
+     * 회원 목록 조회 (관리자, 키셋 페이지네이션)
+     */
+    @GetMapping
+    public ApiResponse<GetUsersResDto> searchUsers(@Valid SearchUsersReqDto condition) {
+        return new ApiResponse<>(userService.searchUsers(condition));
+    }
+
     /**
      * 회원 정보 조회 (관리자)
      */
@@ -67,6 +111,12 @@ public class UserController {
 
     // 삭제 -> 관리자
 
+    // 다수 회원 - 슬랙 계정 일괄 조회 (알림 발송)
+    @PostMapping("/slack-accounts")
+    public ApiResponse<GetSlackAccountIdsResDto> getSlackAccountIds(@Valid @RequestBody GetSlackAccountIdsReqDto requestDto) {
+        return new ApiResponse<>(userService.getSlackAccountIds(requestDto));
+    }
+
     // 단일 회원 - 슬랙 계정 조회
     @GetMapping("/{userId}/slack-account")
     public ApiResponse<GetSlackAccountIdResDto> getSlackAccountId(@PathVariable(name = "userId") Long userId, Authentication auth) {
@@ -1,5 +1,6 @@
 package com.sparta.userservice.domain;
 
+import com.sparta.userservice.global.cache.UserCacheListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,11 +17,18 @@ import static com.sparta.userservice.domain.UserStatus.REJECT;
 @AllArgsConstructor
 @Builder
 @Entity
+// 스키마(유니크/조회 인덱스)는 db/migration 에서 관리한다.
 @Table(name = "p_users")
+@EntityListeners(UserCacheListener.class)
 public class User extends BaseEntity {
 
+    public static final String UK_USERNAME = "uk_users_username";
+    // 이메일은 trim + 소문자로 정규화해서 저장한다. (유니크 인덱스는 lower(email))
+    public static final String UK_EMAIL = "uk_users_email";
+
+    // 시퀀스 + pooled 옵티마이저 (IDENTITY 는 INSERT 배치가 불가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @UserIdSequence(name = "p_users_seq")
     private Long userId;
 
     @Column(nullable = false, length = 10)
@@ -36,7 +44,7 @@ public class User extends BaseEntity {
     @Column(nullable = false, length = 20)
     private String name;
 
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
 
     @Column(nullable = false)
@@ -75,4 +83,8 @@ public class User extends BaseEntity {
     public void assignAsDeliveryManager() {
         isDeliveryManager = true;
     }
+
+    // 회원 캐시 스냅샷 버전
+    @Version
+    private Long version;
 }
@@ -0,0 +1,49 @@
+package com.sparta.userservice.domain;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+/**
+ * 회원 ID 시퀀스 생성기 (pooled 옵티마이저, @UserIdSequence)
+ * - allocation size 를 설정(hibernate.id.user.increment_size)으로 지정할 수 있다.
+ * - DB 시퀀스의 INCREMENT BY 값과 같아야 한다. 다르면 기동 시 Hibernate 가 시퀀스 메타데이터와 비교해 실패한다.
+ *   (hibernate.id.sequence.increment_size_mismatch_strategy=EXCEPTION)
+ */
+public class UserIdGenerator extends SequenceStyleGenerator implements AnnotationBasedGenerator<UserIdSequence> {
+
+    public static final String INCREMENT_SIZE_SETTING = "hibernate.id.user.increment_size";
+    public static final int DEFAULT_INCREMENT_SIZE = 50;
+
+    private String sequenceName;
+
+    @Override
+    public void initialize(UserIdSequence annotation, Member member, GeneratorCreationContext context) {
+        this.sequenceName = annotation.name();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        parameters.setProperty(SEQUENCE_PARAM, sequenceName);
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(incrementSize(serviceRegistry)));
+        parameters.setProperty(OPT_PARAM, "pooled");
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    /**
+     * 설정된 allocation size
+     */
+    private static int incrementSize(ServiceRegistry serviceRegistry) {
+        Object value = serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings()
+                .getOrDefault(INCREMENT_SIZE_SETTING, DEFAULT_INCREMENT_SIZE);
+        return Integer.parseInt(String.valueOf(value));
+    }
+}
@@ -0,0 +1,24 @@
+package com.sparta.userservice.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 회원 ID 시퀀스 (UserIdGenerator, pooled 옵티마이저)
+ */
+@IdGeneratorType(UserIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UserIdSequence {
+
+    /**
+     * DB 시퀀스 이름
+     */
+    String name();
+}
@@ -0,0 +1,19 @@
+package com.sparta.userservice.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetSlackAccountIdsReqDto {
+
+    @NotEmpty(message = "userIds는 필수값입니다.")
+    @Size(max = 1000, message = "userIds는 1000개 이하여야 합니다.")
+    private List<Long> userIds;
+}
@@ -0,0 +1,35 @@
+package com.sparta.userservice.dto.request;
+
+import com.sparta.userservice.domain.UserRole;
+import com.sparta.userservice.domain.UserStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 회원 목록 조회 조건 (쿼리 파라미터)
+ * - cursor: 이전 페이지의 nextCursor (첫 페이지는 생략)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchUsersReqDto {
+
+    private UserStatus status;
+    private UserRole role;
+    private UUID hubId;
+    private UUID vendorId;
+    private Boolean isDeliveryManager;
+
+    private Long cursor;
+
+    @Min(value = 1, message = "size는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "size는 100 이하여야 합니다.")
+    private Integer size;
+
+    public int size() {
+        return size == null ? 20 : size;
+    }
+}
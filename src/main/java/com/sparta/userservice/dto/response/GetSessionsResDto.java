@@ -0,0 +1,18 @@
+package com.sparta.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 로그인 세션 목록 (최근 사용 순)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetSessionsResDto {
+
+    private List<SessionResDto> sessions;
+}
@@ -0,0 +1,18 @@
+package com.sparta.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 슬랙 계정 일괄 조회 결과 (userId -> slackAccountId, 존재하지 않는 회원은 제외)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetSlackAccountIdsResDto {
+
+    private Map<Long, String> slackAccountIds;
+}
@@ -1,8 +1,8 @@
 package com.sparta.userservice.dto.response;
 
-import com.sparta.userservice.domain.User;
 import com.sparta.userservice.domain.UserRole;
 import com.sparta.userservice.domain.UserStatus;
+import com.sparta.userservice.global.cache.UserSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,18 +26,17 @@ public class GetUserResDto {
     private UUID hubId;
     private UUID vendorId;
 
-    public static GetUserResDto from(User user) {
+    public static GetUserResDto from(UserSnapshot user) {
         return GetUserResDto.builder()
-                .userId(user.getUserId())
-                .username(user.getUsername())
-                .name(user.getName())
-                .email(user.getEmail())
-                .role(user.getRole())
-                .status(user.getStatus())
-                .slackAccountId(user.getSlackAccountId())
-                .hubId(user.getHubId())
-                .vendorId(user.getVendorId())
+                .userId(user.userId())
+                .username(user.username())
+                .name(user.name())
+                .email(user.email())
+                .role(user.role())
+                .status(user.status())
+                .slackAccountId(user.slackAccountId())
+                .hubId(user.hubId())
+                .vendorId(user.vendorId())
                 .build();
-
     }
 }
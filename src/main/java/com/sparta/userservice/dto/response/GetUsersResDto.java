@@ -0,0 +1,28 @@
+package com.sparta.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 회원 목록 (키셋 페이지)
+ * - nextCursor 를 다음 요청의 cursor 로 넘긴다. (마지막 페이지면 null)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetUsersResDto {
+
+    private List<UserSummaryResDto> users;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    public static GetUsersResDto of(List<UserSummaryResDto> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<UserSummaryResDto> users = hasNext ? rows.subList(0, size) : rows;
+        Long nextCursor = hasNext ? users.get(users.size() - 1).getUserId() : null;
+        return new GetUsersResDto(users, nextCursor, hasNext);
+    }
+}
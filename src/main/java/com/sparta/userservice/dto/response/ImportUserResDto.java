@@ -0,0 +1,40 @@
+package com.sparta.userservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sparta.userservice.global.response.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 대량 등록 - 행 단위 결과 (NDJSON 한 줄)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportUserResDto {
+
+    private long line;
+    private Status status;
+    private String username;
+    private Long userId;
+    private Integer code;
+    private String reason;
+
+    public enum Status {
+        CREATED, FAILED
+    }
+
+    public static ImportUserResDto created(long line, String username, Long userId) {
+        return new ImportUserResDto(line, Status.CREATED, username, userId, null, null);
+    }
+
+    public static ImportUserResDto failed(long line, String username, ErrorCode errorCode) {
+        return failed(line, username, errorCode, errorCode.getDetails());
+    }
+
+    public static ImportUserResDto failed(long line, String username, ErrorCode errorCode, String reason) {
+        return new ImportUserResDto(line, Status.FAILED, username, null, errorCode.getCode(), reason);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.userservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 대량 등록 - 전체 결과 (NDJSON 마지막 줄)
+ * - 처리 도중 중단되면 error 에 사유가 담기고, 그 이전 청크는 이미 저장된 상태다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportUsersResDto {
+
+    private long total;
+    private long created;
+    private long failed;
+    private String error;
+}
@@ -0,0 +1,27 @@
+package com.sparta.userservice.dto.response;
+
+import com.sparta.userservice.service.TokenRedisService.StoredSession;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 로그인 세션 (기기)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionResDto {
+
+    private String sessionId;
+    private String device;
+    private Instant issuedAt;
+    private Instant lastUsedAt;
+    private boolean current;
+
+    public static SessionResDto of(StoredSession session, boolean current) {
+        return new SessionResDto(session.sessionId(), session.device(), session.issuedAt(), session.lastUsedAt(), current);
+    }
+}
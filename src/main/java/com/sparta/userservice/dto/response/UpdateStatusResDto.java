@@ -1,18 +1,25 @@
 package com.sparta.userservice.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
 
+/**
+ * 회원 상태 일괄 변경 결과
+ * - 처리 도중 중단되면 error 에 사유가 담기고, 남은 회원은 같은 사유로 failed 에 담긴다. (completed 는 이미 반영된 상태)
+ */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class UpdateStatusResDto {
 
     private List<Long> completed;
     private List<Failure> failed;
+    private String error;
 
     @Getter
     @AllArgsConstructor
@@ -0,0 +1,28 @@
+package com.sparta.userservice.dto.response;
+
+import com.sparta.userservice.domain.UserRole;
+import com.sparta.userservice.domain.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 회원 목록 항목 (엔티티 대신 필요한 컬럼만 조회하는 프로젝션)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryResDto {
+
+    private Long userId;
+    private String username;
+    private String name;
+    private String email;
+    private UserRole role;
+    private UserStatus status;
+    private UUID hubId;
+    private UUID vendorId;
+    private Boolean isDeliveryManager;
+}
@@ -0,0 +1,83 @@
+package com.sparta.userservice.global.cache;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.DisconnectedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * 블랙리스트 등록 이벤트 구독 (pub/sub -> 니어 캐시, 줄마다 {userId}:{sid})
+ * - 구독이 끊긴 동안 다른 인스턴스의 등록 이벤트는 유실되므로, 연결이 끊기거나 서킷이 열리면 블룸 필터 부정 확인을 멈춘다. (markUnsynced)
+ * - 다시 구독되거나 서킷이 닫히면 Redis 블랙리스트를 재동기화한다. 구독 후에 SCAN 하므로 그 사이 등록은 둘 중 한 곳에서 반영된다.
+ * - 재동기화는 Lettuce 이벤트 루프/요청 스레드를 막지 않도록 스케줄러에서 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BlacklistEventListener implements MessageListener, SubscriptionListener {
+
+    private final BlacklistNearCache blacklistNearCache;
+    private final Runnable resync;
+    private final TaskScheduler scheduler;
+
+    /**
+     * Redis 연결 끊김 감시 (어떤 연결인지 구분할 수 없으므로 모든 끊김을 구독 끊김으로 본다)
+     */
+    public BlacklistEventListener watch(EventBus eventBus) {
+        eventBus.get()
+                .filter(DisconnectedEvent.class::isInstance)
+                .subscribe(event -> unsynced("Redis 연결 끊김"));
+        return this;
+    }
+
+    /**
+     * 서킷 브레이커 상태 감시 (열림 -> 동기화 해제, 닫힘 -> 재동기화)
+     */
+    public BlacklistEventListener watch(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            switch (event.getStateTransition().getToState()) {
+                case OPEN, FORCED_OPEN -> unsynced("서킷 열림");
+                case CLOSED -> resync("서킷 닫힘");
+                default -> {
+                }
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        new String(message.getBody(), StandardCharsets.UTF_8)
+                .lines()
+                .forEach(blacklistNearCache::markRevoked);
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        resync("구독");
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        unsynced("구독 해제");
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private void unsynced(String reason) {
+        log.warn("블랙리스트 니어 캐시 동기화 해제: {}", reason);
+        blacklistNearCache.markUnsynced();
+    }
+
+    private void resync(String reason) {
+        log.info("블랙리스트 니어 캐시 재동기화 예약: {}", reason);
+        scheduler.schedule(resync, Instant.now());
+    }
+}
@@ -0,0 +1,195 @@
+package com.sparta.userservice.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 엑세스 토큰 블랙리스트 니어 캐시 (Redis 앞단)
+ * 1. 블룸 필터에 없으면 -> 블랙리스트 아님 (네트워크 호출 없음)
+ * 2. 로컬 캐시에 있으면 -> 캐시 값 사용
+ * 3. 그 외 -> Redis 조회 후 로컬 캐시에 저장
+ * 블룸 필터는 Redis pub/sub 이벤트와 주기적인 재동기화로 채워진다.
+ * Redis 장애 시에는 이 인스턴스가 알고 있는 폐기 기록(revocations)으로만 판단한다.
+ * 전체 세션 폐기는 sid 를 모를 수 있으므로 회원 단위 "이 시각 이전 발급 토큰 폐기" 기록으로 남긴다.
+ */
+@Slf4j
+@Component
+public class BlacklistNearCache {
+
+    private final Cache<String, Boolean> local;
+
+    // 폐기 기록 (엑세스 토큰 유효 기간 동안 유지, Redis 장애 시 판단 근거)
+    private final Cache<String, Boolean> revocations;
+
+    // 회원 단위 폐기 기록 (userId -> 이 시각 이전에 발급된 토큰 폐기, 엑세스 토큰 유효 기간 동안 유지)
+    private final Cache<String, Instant> userRevocations;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    // 현재/이전 세대 블룸 필터 (블룸 필터는 삭제가 불가능하므로 세대 교체로 비운다)
+    private volatile RevocationBloomFilter current;
+    private volatile RevocationBloomFilter previous;
+    private volatile boolean synced = false;
+
+    // 동기화 해제 횟수 (해제 전에 시작한 재동기화가 완료로 덮어쓰지 않도록)
+    private long syncEpoch = 0;
+
+    private final LongAdder bloomNegatives = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public BlacklistNearCache(
+            @Value("${blacklist.near-cache.maximum-size:100000}") long maximumSize,
+            @Value("${blacklist.near-cache.expire-after-write:PT30S}") Duration expireAfterWrite,
+            @Value("${blacklist.near-cache.bloom.expected-insertions:100000}") int expectedInsertions,
+            @Value("${blacklist.near-cache.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${blacklist.near-cache.revocation-retention:PT15M}") Duration revocationRetention
+    ) {
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.revocations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(revocationRetention)
+                .build();
+        this.userRevocations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(revocationRetention)
+                .build();
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = newFilter();
+        this.previous = newFilter();
+    }
+
+    /**
+     * 블랙리스트 여부 확인
+     *
+     * @param key    블랙리스트 키 (userId)
+     * @param remote 로컬에서 판단할 수 없을 때 호출할 Redis 조회
+     */
+    public boolean isBlacklisted(String key, Predicate<String> remote) {
+        // 1. 블룸 필터 부정 확인 (최초 동기화 전에는 건너뜀)
+        if (synced && !current.mightContain(key) && !previous.mightContain(key)) {
+            bloomNegatives.increment();
+            return false;
+        }
+
+        // 2. 로컬 캐시 조회
+        Boolean cached = local.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        // 3. Redis 조회
+        misses.increment();
+        boolean blacklisted = remote.test(key);
+        local.put(key, blacklisted);
+        return blacklisted;
+    }
+
+    /**
+     * 블랙리스트 등록 반영 (본 인스턴스 등록 + 다른 인스턴스의 pub/sub 이벤트)
+     */
+    public void markRevoked(String key) {
+        current.put(key);
+        local.put(key, true);
+        revocations.put(key, true);
+    }
+
+    /**
+     * 이 인스턴스가 알고 있는 폐기 여부 (Redis 장애 시 사용, 네트워크 호출 없음)
+     */
+    public boolean isRevokedLocally(String key) {
+        return revocations.getIfPresent(key) != null;
+    }
+
+    /**
+     * 회원 단위 폐기 반영 (Redis 장애 중 전체 세션 폐기, sid 를 알 수 없는 경우)
+     */
+    public void markUserRevoked(String userId, Instant revokedAt) {
+        userRevocations.asMap().merge(userId, revokedAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    /**
+     * 회원 단위 폐기 여부 (폐기 시각 이전에 발급된 토큰, 토큰 발급 시각은 초 단위이므로 같은 초도 폐기)
+     */
+    public boolean isUserRevokedLocally(String userId, Instant issuedAt) {
+        Instant revokedAt = userRevocations.getIfPresent(userId);
+        return revokedAt != null && !issuedAt.isAfter(revokedAt);
+    }
+
+    /**
+     * 블룸 필터 세대 교체
+     * - 교체 후 호출자가 Redis 의 블랙리스트 키를 다시 markRevoked 해야 한다.
+     */
+    public synchronized void rotate() {
+        previous = current;
+        current = newFilter();
+    }
+
+    /**
+     * 재동기화 시작 시점 (markSynced 에 그대로 넘긴다)
+     */
+    public synchronized long syncEpoch() {
+        return syncEpoch;
+    }
+
+    /**
+     * 재동기화 완료 표시 (이후부터 블룸 필터 부정 확인 사용)
+     * - 재동기화 도중 동기화가 해제됐으면(구독 끊김 등) 무시한다.
+     *
+     * @param epoch 재동기화 시작 전에 받은 syncEpoch()
+     */
+    public synchronized void markSynced(long epoch) {
+        if (epoch != syncEpoch) {
+            return;
+        }
+        if (!synced) {
+            log.info("블랙리스트 니어 캐시 동기화 완료");
+        }
+        synced = true;
+    }
+
+    /**
+     * 동기화 해제 (재동기화 실패, 구독 끊김, 서킷 열림)
+     * - 블룸 필터를 신뢰할 수 없으므로 다음 재동기화 전까지 로컬 캐시/Redis 로만 판단한다.
+     */
+    public synchronized void markUnsynced() {
+        syncEpoch++;
+        synced = false;
+    }
+
+    public boolean isSynced() {
+        return synced;
+    }
+
+    public Stats stats() {
+        return new Stats(bloomNegatives.sum(), hits.sum(), misses.sum(), local.estimatedSize());
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private RevocationBloomFilter newFilter() {
+        return new RevocationBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * @param bloomNegatives 블룸 필터로 Redis 조회를 생략한 횟수
+     * @param hits           로컬 캐시 적중 횟수
+     * @param misses         Redis 조회 횟수
+     * @param size           로컬 캐시 크기
+     */
+    public record Stats(long bloomNegatives, long hits, long misses, long size) {
+    }
+}
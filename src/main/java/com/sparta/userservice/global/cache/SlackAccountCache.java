@@ -0,0 +1,82 @@
+package com.sparta.userservice.global.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.userservice.repository.SlackAccountView;
+import com.sparta.userservice.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * 슬랙 계정 읽기 캐시 (알림 대상 일괄 조회용)
+ * - 캐시에 없는 ID 만 모아 프로젝션 쿼리 1회로 조회한다.
+ * - 같은 ID 를 동시에 조회하면 진행 중인 로딩을 함께 기다린다.
+ * - 회원 변경 시 UserCache.evictLocal 에서 함께 제거된다.
+ */
+@Component
+public class SlackAccountCache {
+
+    private final AsyncLoadingCache<Long, String> cache;
+
+    public SlackAccountCache(
+            UserRepository userRepository,
+            @Value("${slack-account-cache.maximum-size:50000}") long maximumSize,
+            @Value("${slack-account-cache.expire-after-write:PT5M}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                // 로딩은 호출 스레드에서 실행 (JDBC 를 공용 풀에서 돌리지 않음)
+                .executor(Runnable::run)
+                .buildAsync(new CacheLoader<>() {
+                    @Override
+                    public String load(Long userId) {
+                        return loadAll(Set.of(userId)).get(userId);
+                    }
+
+                    @Override
+                    public Map<Long, String> loadAll(Set<? extends Long> userIds) {
+                        return userRepository.findSlackAccountsByUserIdIn(userIds).stream()
+                                .collect(Collectors.toMap(SlackAccountView::getUserId, SlackAccountView::getSlackAccountId));
+                    }
+                });
+    }
+
+    public Optional<String> get(Long userId) {
+        return Optional.ofNullable(join(cache.get(userId)));
+    }
+
+    /**
+     * 일괄 조회 (존재하지 않는 회원은 결과에서 제외)
+     */
+    public Map<Long, String> getAll(Collection<Long> userIds) {
+        return join(cache.getAll(userIds));
+    }
+
+    public void invalidate(Long userId) {
+        cache.synchronous().invalidate(userId);
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
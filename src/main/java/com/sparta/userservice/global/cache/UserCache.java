@@ -0,0 +1,246 @@
+package com.sparta.userservice.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.userservice.repository.UserRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * 회원 스냅샷 2단계 캐시 (로컬 -> Redis -> DB)
+ * - userId, username 두 키로 같은 스냅샷을 저장한다.
+ * - 같은 키의 동시 미스는 로컬 캐시 로더 1회로 합쳐진다.
+ * - 변경 시 UserCacheListener 가 커밋 후 최신 버전으로 덮어쓰고 다른 인스턴스의 로컬 캐시를 비운다.
+ * - Redis 호출은 토큰 저장소와 같은 서킷 브레이커를 거친다. (열린 동안은 타임아웃을 기다리지 않고 DB 조회)
+ */
+@Slf4j
+@Component
+public class UserCache {
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final SlackAccountCache slackAccountCache;
+    private final Cache<String, UserSnapshot> local;
+    private final Duration redisTtl;
+    private final CircuitBreaker circuitBreaker;
+
+    // v2: 비밀번호 해시 제외, v3: 삭제 여부 추가 (이전 형식 스냅샷과 섞이지 않도록 키 분리)
+    private static final String KEY_PREFIX = "user:v3:";
+    private static final String KEY_ID = "id:";
+    private static final String KEY_USERNAME = "name:";
+
+    public static final String CHANNEL_USER_CACHE = "user-cache-events";
+
+    private static final RedisScript<Long> PUT_IF_NEWER =
+            RedisScript.of(new ClassPathResource("redis/user-cache-put.lua"), Long.class);
+
+    public UserCache(
+            StringRedisTemplate redis,
+            ObjectMapper objectMapper,
+            UserRepository userRepository,
+            SlackAccountCache slackAccountCache,
+            CircuitBreaker redisCircuitBreaker,
+            @Value("${user-cache.local.maximum-size:10000}") long maximumSize,
+            @Value("${user-cache.local.expire-after-write:PT30S}") Duration localTtl,
+            @Value("${user-cache.redis.ttl:PT10M}") Duration redisTtl
+    ) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+        this.slackAccountCache = slackAccountCache;
+        this.redisTtl = redisTtl;
+        this.circuitBreaker = redisCircuitBreaker;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    public Optional<UserSnapshot> findById(Long userId) {
+        return find(KEY_ID + userId, () -> userRepository.findById(userId).map(UserSnapshot::from));
+    }
+
+    public Optional<UserSnapshot> findByUsername(String username) {
+        return find(KEY_USERNAME + username, () -> userRepository.findByUsername(username).map(UserSnapshot::from));
+    }
+
+    /**
+     * 변경된 스냅샷 반영 (커밋 후 호출, 저장된 버전보다 최신일 때만 Redis 저장)
+     * - 저장에 실패하면 키를 삭제해 이전 스냅샷이 TTL 동안 남지 않게 한다. (다음 조회 시 DB 에서 적재)
+     */
+    public void put(UserSnapshot snapshot) {
+        if (!writeRedis(snapshot)) {
+            deleteRedis(snapshot.userId(), snapshot.username());
+        }
+        evictLocal(snapshot.userId(), snapshot.username());
+        publish(snapshot.userId(), snapshot.username());
+    }
+
+    /**
+     * 캐시 제거 (스냅샷 없이 변경된 경우)
+     */
+    public void evict(Long userId, String username) {
+        deleteRedis(userId, username);
+        evictLocal(userId, username);
+        publish(userId, username);
+    }
+
+    /**
+     * 변경된 스냅샷 일괄 반영 (엔티티를 거치지 않은 일괄 변경, 커밋 후 호출)
+     * - 키만 지우면 변경 전에 DB 를 읽은 조회가 이전 스냅샷을 다시 쓸 수 있으므로,
+     *   새 버전 스냅샷을 put-if-newer 로 저장한다. (Redis 저장/이벤트 발행 각 1회)
+     * - 저장에 실패하면 키를 삭제한다.
+     */
+    public void putAll(Collection<UserSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(snapshots.size() * 2);
+        StringJoiner message = new StringJoiner("\n");
+        for (UserSnapshot snapshot : snapshots) {
+            keys.add(redisKey(KEY_ID + snapshot.userId()));
+            keys.add(redisKey(KEY_USERNAME + snapshot.username()));
+            message.add(snapshot.userId() + ":" + snapshot.username());
+        }
+
+        if (!writeRedis(keys, snapshots)) {
+            try {
+                call(() -> redis.delete(keys));
+            } catch (Exception e) {
+                log.error("회원 캐시 Redis 일괄 삭제 실패 (TTL 만료까지 이전 스냅샷 유지): size={}, {}",
+                        snapshots.size(), e.getMessage());
+            }
+        }
+        snapshots.forEach(snapshot -> evictLocal(snapshot.userId(), snapshot.username()));
+
+        try {
+            call(() -> redis.convertAndSend(CHANNEL_USER_CACHE, message.toString()));
+        } catch (Exception e) {
+            log.warn("회원 캐시 이벤트 발행 실패: size={}, {}", snapshots.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 캐시 제거 (다른 인스턴스의 pub/sub 이벤트 포함)
+     */
+    public void evictLocal(Long userId, String username) {
+        local.invalidate(KEY_ID + userId);
+        local.invalidate(KEY_USERNAME + username);
+        slackAccountCache.invalidate(userId);
+    }
+
+    /**
+     * pub/sub 메시지 처리 ("{userId}:{username}", 일괄 제거는 줄바꿈으로 구분)
+     */
+    public void onMessage(String message) {
+        for (String entry : message.split("\n")) {
+            int separator = entry.indexOf(':');
+            evictLocal(Long.valueOf(entry.substring(0, separator)), entry.substring(separator + 1));
+        }
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private Optional<UserSnapshot> find(String key, Supplier<Optional<UserSnapshot>> database) {
+        return Optional.ofNullable(local.get(key, k -> {
+            UserSnapshot cached = readRedis(k);
+            if (cached != null) {
+                return cached;
+            }
+
+            UserSnapshot loaded = database.get().orElse(null);
+            if (loaded != null) {
+                writeRedis(loaded);
+            }
+            return loaded;
+        }));
+    }
+
+    private UserSnapshot readRedis(String key) {
+        try {
+            String json = call(() -> redis.opsForValue().get(redisKey(key)));
+            return json == null ? null : objectMapper.readValue(json, UserSnapshot.class);
+        } catch (Exception e) {
+            log.warn("회원 캐시 Redis 조회 실패: key={}, {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean writeRedis(UserSnapshot snapshot) {
+        return writeRedis(
+                List.of(redisKey(KEY_ID + snapshot.userId()), redisKey(KEY_USERNAME + snapshot.username())),
+                List.of(snapshot)
+        );
+    }
+
+    /**
+     * @param keys 스냅샷마다 id, username 키 순서
+     * @return 저장 시도 성공 여부 (버전이 오래되어 건너뛴 경우 포함)
+     */
+    private boolean writeRedis(List<String> keys, Collection<UserSnapshot> snapshots) {
+        Object[] args = new Object[1 + snapshots.size() * 2];
+        args[0] = String.valueOf(redisTtl.toMillis());
+        int i = 1;
+        try {
+            for (UserSnapshot snapshot : snapshots) {
+                args[i++] = objectMapper.writeValueAsString(snapshot);
+                args[i++] = String.valueOf(snapshot.version());
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try {
+            call(() -> redis.execute(PUT_IF_NEWER, keys, args));
+            return true;
+        } catch (Exception e) {
+            log.warn("회원 캐시 Redis 저장 실패: size={}, {}", snapshots.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void deleteRedis(Long userId, String username) {
+        try {
+            call(() -> redis.delete(List.of(redisKey(KEY_ID + userId), redisKey(KEY_USERNAME + username))));
+        } catch (Exception e) {
+            log.error("회원 캐시 Redis 삭제 실패 (TTL 만료까지 이전 스냅샷 유지): userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    private void publish(Long userId, String username) {
+        try {
+            call(() -> redis.convertAndSend(CHANNEL_USER_CACHE, userId + ":" + username));
+        } catch (Exception e) {
+            log.warn("회원 캐시 이벤트 발행 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 호출 (서킷이 열려 있으면 호출하지 않고 CallNotPermittedException)
+     */
+    private <T> T call(Supplier<T> call) {
+        return circuitBreaker.executeSupplier(call);
+    }
+
+    private static String redisKey(String key) {
+        return KEY_PREFIX + key;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparta.userservice.global.cache;
+
+import com.sparta.userservice.domain.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원 엔티티 변경 -> 회원 캐시 갱신 (커밋 후)
+ * - approve(), reject(), updatePassword(), 회원 생성 등 엔티티를 통한 변경이 모두 반영된다.
+ * - UserCache 는 EntityManagerFactory 생성 이후에 필요하므로 지연 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheListener {
+
+    private final ObjectProvider<UserCache> userCache;
+
+    @PostPersist
+    @PostUpdate
+    public void onChange(User user) {
+        UserSnapshot snapshot = UserSnapshot.from(user);
+        afterCommit(() -> userCache.getObject().put(snapshot));
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        Long userId = user.getUserId();
+        String username = user.getUsername();
+        afterCommit(() -> userCache.getObject().evict(userId, username));
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.sparta.userservice.global.cache;
+
+import com.sparta.userservice.domain.User;
+import com.sparta.userservice.domain.UserRole;
+import com.sparta.userservice.domain.UserStatus;
+
+import java.util.UUID;
+
+/**
+ * 회원 캐시용 불변 스냅샷
+ * - 공유 Redis 에 저장되므로 비밀번호 해시는 담지 않는다. (로그인 시에만 DB 에서 조회)
+ *
+ * @param deleted 탈퇴(삭제) 여부, 삭제된 회원은 로그인/토큰 재발급 불가
+ * @param version 엔티티 버전 (@Version), 오래된 스냅샷이 최신 값을 덮어쓰지 않도록 비교한다.
+ */
+public record UserSnapshot(
+        Long userId,
+        String username,
+        String name,
+        String email,
+        UserRole role,
+        UserStatus status,
+        String slackAccountId,
+        UUID hubId,
+        UUID vendorId,
+        Boolean isDeliveryManager,
+        boolean deleted,
+        long version
+) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getUserId(),
+                user.getUsername(),
+                user.getName(),
+                user.getEmail(),
+                user.getRole(),
+                user.getStatus(),
+                user.getSlackAccountId(),
+                user.getHubId(),
+                user.getVendorId(),
+                user.getIsDeliveryManager(),
+                user.getDeletedAt() != null,
+                user.getVersion() == null ? 0 : user.getVersion()
+        );
+    }
+}
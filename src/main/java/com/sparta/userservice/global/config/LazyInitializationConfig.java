@@ -0,0 +1,35 @@
+package com.sparta.userservice.global.config;
+
+import com.sparta.userservice.global.cache.BlacklistNearCache;
+import com.sparta.userservice.global.cache.UserCache;
+import com.sparta.userservice.global.security.jwt.JwtProvider;
+import com.sparta.userservice.service.TokenRedisService;
+import jakarta.servlet.Filter;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * 지연 초기화(spring.main.lazy-initialization=true) 에서도 기동 시점에 만드는 빈
+ * - 보안 필터 체인 / JWT 필터 : 첫 요청이 필터 체인 구성 비용을 떠안지 않도록 (DelegatingFilterProxy 는 첫 요청에 위임 대상을 찾음)
+ * - JwtProvider            : 키 저장소 오류를 기동 시점에 발견
+ * - TokenRedisService      : @Scheduled 재처리는 빈이 만들어져야 등록된다.
+ * - 블랙리스트/회원 캐시       : Redis 무효화 메시지 구독 대상
+ * 그 외(컨트롤러, Feign 클라이언트, 관리자 기능 등)는 첫 사용 시 생성된다.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerSecurityBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                SecurityFilterChain.class,
+                Filter.class,
+                JwtProvider.class,
+                TokenRedisService.class,
+                BlacklistNearCache.class,
+                UserCache.class
+        );
+    }
+}
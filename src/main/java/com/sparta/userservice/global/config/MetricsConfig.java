@@ -0,0 +1,34 @@
+package com.sparta.userservice.global.config;
+
+import com.sparta.userservice.global.cache.BlacklistNearCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 통계 메트릭 등록
+ * - 요청 단위 타이머는 각 컴포넌트(OutcomeTimer)에서, 컨트롤러/리포지토리는 Spring Boot 자동 계측
+ *   (http.server.requests, spring.data.repository.invocations) 을 사용한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder blacklistNearCacheMetrics(BlacklistNearCache blacklistNearCache) {
+        return registry -> {
+            FunctionCounter.builder("blacklist.near_cache.requests", blacklistNearCache, cache -> cache.stats().bloomNegatives())
+                    .tag("result", "bloom_negative")
+                    .register(registry);
+            FunctionCounter.builder("blacklist.near_cache.requests", blacklistNearCache, cache -> cache.stats().hits())
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("blacklist.near_cache.requests", blacklistNearCache, cache -> cache.stats().misses())
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("blacklist.near_cache.size", blacklistNearCache, cache -> cache.stats().size())
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.sparta.userservice.global.config;
+
+import com.sparta.userservice.global.cache.BlacklistEventListener;
+import com.sparta.userservice.global.cache.BlacklistNearCache;
+import com.sparta.userservice.global.cache.UserCache;
+import com.sparta.userservice.service.TokenRedisService;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static com.sparta.userservice.global.cache.UserCache.CHANNEL_USER_CACHE;
+import static com.sparta.userservice.service.TokenRedisService.CHANNEL_BLACKLIST;
+
+@Slf4j
+@Configuration
+public class RedisConfig {
+
+    /**
+     * 블랙리스트 등록 이벤트 구독 -> 니어 캐시 반영 (연결 끊김/재구독/서킷 상태에 따라 동기화 해제 및 재동기화)
+     * 회원 변경 이벤트 구독 -> 회원 로컬 캐시 제거
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            ClientResources clientResources,
+            CircuitBreaker redisCircuitBreaker,
+            TaskScheduler taskScheduler,
+            BlacklistNearCache blacklistNearCache,
+            TokenRedisService tokenRedisService,
+            UserCache userCache
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new BlacklistEventListener(blacklistNearCache, tokenRedisService::resyncBlacklist, taskScheduler)
+                        .watch(clientResources.eventBus())
+                        .watch(redisCircuitBreaker),
+                new ChannelTopic(CHANNEL_BLACKLIST)
+        );
+        container.addMessageListener(
+                (message, pattern) -> userCache.onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL_USER_CACHE)
+        );
+        return container;
+    }
+
+    /**
+     * Lettuce 빠른 실패 설정
+     * - 연결이 끊긴 동안 명령을 큐에 쌓지 않고 바로 거절한다. (기본값은 재연결까지 대기 -> 요청 스레드 고갈)
+     * - 명령 타임아웃은 spring.data.redis.timeout 을 따른다.
+     */
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer lettuceFailFastCustomizer(
+            @Value("${spring.data.redis.connect-timeout:PT1S}") Duration connectTimeout
+    ) {
+        return builder -> builder.clientOptions(ClientOptions.builder()
+                .autoReconnect(true)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                .timeoutOptions(TimeoutOptions.enabled())
+                .build());
+    }
+
+    /**
+     * 토큰 Redis 서킷 브레이커
+     * - 실패(DataAccessException) 또는 느린 호출 비율이 임계값을 넘으면 열리고, 열린 동안은 Redis 를 호출하지 않는다.
+     */
+    @Bean
+    public CircuitBreaker redisCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${redis-circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+            @Value("${redis-circuit-breaker.minimum-number-of-calls:20}") int minimumNumberOfCalls,
+            @Value("${redis-circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${redis-circuit-breaker.slow-call-duration-threshold:PT0.1S}") Duration slowCallDurationThreshold,
+            @Value("${redis-circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${redis-circuit-breaker.wait-duration-in-open-state:PT5S}") Duration waitDurationInOpenState,
+            @Value("${redis-circuit-breaker.permitted-calls-in-half-open-state:5}") int permittedCallsInHalfOpenState
+    ) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordExceptions(DataAccessException.class)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        CircuitBreaker circuitBreaker = registry.circuitBreaker("redis");
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Redis 서킷 브레이커 상태 변경: {}", event.getStateTransition())
+        );
+        return circuitBreaker;
+    }
+}
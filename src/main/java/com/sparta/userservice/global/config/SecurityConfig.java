@@ -3,20 +3,28 @@ package com.sparta.userservice.global.config;
 import com.sparta.userservice.global.security.jwt.JwtProvider;
 import com.sparta.userservice.global.security.jwt.filter.JwtAuthenticationFilter;
 import com.sparta.userservice.global.security.jwt.filter.JwtAuthorizationFilter;
+import com.sparta.userservice.global.security.jwt.user.PrincipalMode;
 import com.sparta.userservice.global.security.jwt.user.UserDetailsServiceImpl;
+import com.sparta.userservice.global.security.password.BoundedPasswordEncoder;
 import com.sparta.userservice.service.TokenRedisService;
+import com.sparta.userservice.service.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.time.Duration;
 
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
@@ -27,12 +35,29 @@ public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
     private final TokenRedisService tokenRedisService;
+    private final TokenService tokenService;
     private final UserDetailsServiceImpl userDetailsService;
-    private final AuthenticationConfiguration authenticationConfiguration;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // CLAIMS: 토큰 클레임으로 인증 주체 생성, DATABASE: 요청마다 회원 조회
+    @Value("${jwt.principal-mode:CLAIMS}")
+    private PrincipalMode principalMode;
+
+    /**
+     * BCrypt 는 전용 스레드 풀에서 실행 (로그인 폭주 시 요청 스레드 보호)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${password-hashing.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int poolSize,
+            @Value("${password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${password-hashing.timeout:PT1S}") Duration timeout,
+            @Value("${password-hashing.bulk-concurrency:0}") int bulkConcurrency,
+            MeterRegistry meterRegistry
+    ) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(), poolSize, queueCapacity, timeout, bulkConcurrency, meterRegistry
+        );
     }
 
     @Bean
@@ -41,30 +66,51 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtProvider, tokenRedisService);
-        filter.setAuthenticationManager(authenticationManager(authenticationConfiguration));
+    public JwtAuthenticationFilter jwtAuthenticationFilter(AuthenticationManager authenticationManager) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenService);
+        filter.setAuthenticationManager(authenticationManager);
         return filter;
     }
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtProvider, userDetailsService, tokenRedisService);
+        return new JwtAuthorizationFilter(jwtProvider, userDetailsService, tokenRedisService, principalMode, meterRegistry);
     }
 
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            JwtAuthorizationFilter jwtAuthorizationFilter
+    ) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .cors(Customizer.withDefaults())
                 .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/", "/v1/auth/**").permitAll()
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
+                        .requestMatchers(managementPort()).permitAll()
                         .anyRequest().authenticated()
                 );
-        http.addFilterBefore(jwtAuthorizationFilter(), JwtAuthenticationFilter.class);
-        http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(jwtAuthorizationFilter, JwtAuthenticationFilter.class);
+        http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
+
+    // ============================== 유틸 메서드 ==============================
+
+    /**
+     * 관리 포트(management.server.port)로 들어온 액추에이터 요청
+     * - 관리 포트는 내부망(스크레이퍼, 헬스 체크)에서만 열고, 서비스 포트로는 액추에이터를 노출하지 않는다.
+     * - 관리 포트를 따로 두지 않으면 일치하는 요청이 없다. (액추에이터는 인증 필요)
+     */
+    private RequestMatcher managementPort() {
+        return request -> {
+            // 관리 서버 기동 후 설정됨 (port 0 으로 띄운 경우 실제 포트)
+            Integer port = environment.getProperty("local.management.port", Integer.class);
+            return port != null && request.getLocalPort() == port && request.getRequestURI().startsWith("/actuator/");
+        };
+    }
 }
@@ -0,0 +1,257 @@
+package com.sparta.userservice.global.config;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.sparta.userservice.domain.UserRole;
+import com.sparta.userservice.domain.UserStatus;
+import com.sparta.userservice.global.cache.UserSnapshot;
+import com.sparta.userservice.global.security.jwt.JwtProvider;
+import com.sparta.userservice.global.security.jwt.user.PrincipalMode;
+import com.sparta.userservice.global.security.password.BoundedPasswordEncoder;
+import com.sparta.userservice.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 기동 워밍업 (Eureka UP 전환 전)
+ * - 인스턴스는 STARTING 으로 등록되고(eureka.instance.initial-status), 워밍업이 끝난 뒤 UP 으로 바뀌어 트래픽을 받는다.
+ * 1. 커넥션: Hikari 풀(프라이머리/레플리카) 채우기, Redis 연결 + Lua 스크립트 로드
+ * 2. JIT: 합성 회원으로 JWT 발급/검증, BCrypt 해시 반복
+ * 3. 요청 경로: 합성 토큰으로 세션 목록 자기 호출 (필터 체인, 블랙리스트 확인, DispatcherServlet, Jackson)
+ * - 상태를 바꾸는 호출(로그인, 세션 저장 등)은 하지 않고, 합성 토큰은 localhost 밖으로 나가지 않는다.
+ * - max-duration 을 넘기면 남은 반복을 건너뛰고, 실패해도 UP 으로 전환한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class WarmUpRunner implements ApplicationRunner {
+
+    // 가입 불가능한 아이디(숫자 없음)와 존재하지 않는 회원 ID
+    private static final UserSnapshot WARM_UP_USER = new UserSnapshot(
+            0L, "warmup", "워밍업", "warm-up@localhost", UserRole.VENDOR_MANAGER, UserStatus.APPROVE,
+            "warm-up", null, null, false, false, 0L
+    );
+    private static final String WARM_UP_PASSWORD = "Warm-up1!";
+
+    private final JwtProvider jwtProvider;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final ObjectProvider<HikariDataSource> dataSources;
+    private final StringRedisTemplate redis;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final Environment environment;
+
+    private final PrincipalMode principalMode;
+    private final boolean enabled;
+    private final Duration maxDuration;
+    private final int jwtIterations;
+    private final int passwordIterations;
+    private final int httpIterations;
+
+    public WarmUpRunner(
+            JwtProvider jwtProvider,
+            BoundedPasswordEncoder passwordEncoder,
+            UserRepository userRepository,
+            ObjectProvider<HikariDataSource> dataSources,
+            StringRedisTemplate redis,
+            ObjectProvider<ApplicationInfoManager> applicationInfoManager,
+            Environment environment,
+            @Value("${jwt.principal-mode:CLAIMS}") PrincipalMode principalMode,
+            @Value("${warm-up.enabled:true}") boolean enabled,
+            @Value("${warm-up.max-duration:PT20S}") Duration maxDuration,
+            @Value("${warm-up.jwt-iterations:3000}") int jwtIterations,
+            @Value("${warm-up.password-iterations:8}") int passwordIterations,
+            @Value("${warm-up.http-iterations:500}") int httpIterations
+    ) {
+        this.jwtProvider = jwtProvider;
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.dataSources = dataSources;
+        this.redis = redis;
+        this.applicationInfoManager = applicationInfoManager;
+        this.environment = environment;
+        this.principalMode = principalMode;
+        this.enabled = enabled;
+        this.maxDuration = maxDuration;
+        this.jwtIterations = jwtIterations;
+        this.passwordIterations = passwordIterations;
+        this.httpIterations = httpIterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (enabled) {
+                warmUp();
+            }
+        } finally {
+            // 워밍업 실패/비활성화와 관계없이 트래픽 수신 시작
+            applicationInfoManager.ifAvailable(manager -> manager.setInstanceStatus(InstanceStatus.UP));
+        }
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+
+        String accessToken = jwtProvider.createAccessToken(WARM_UP_USER, JwtProvider.newSessionId());
+        String refreshToken = jwtProvider.createRefreshToken(WARM_UP_USER, JwtProvider.newSessionId());
+
+        int pools = step("커넥션 풀", () -> openConnectionPools(deadline));
+        int scripts = step("Redis", this::openRedis);
+        int jwt = step("JWT", () -> {
+            int i = 0;
+            for (; i < jwtIterations && System.nanoTime() < deadline; i++) {
+                jwtProvider.createAccessToken(WARM_UP_USER, JwtProvider.newSessionId());
+                // 검증 캐시를 거치지 않는 서명 검증 경로
+                jwtProvider.validateAndParse(i % 2 == 0 ? accessToken : refreshToken);
+            }
+            return i;
+        });
+        int hashes = step("BCrypt", () -> {
+            if (passwordIterations <= 0 || System.nanoTime() >= deadline) {
+                return 0;
+            }
+            // 해시 전용 풀의 스레드를 모두 사용
+            List<String> encoded = passwordEncoder.encodeAll(Collections.nCopies(passwordIterations, WARM_UP_PASSWORD));
+            passwordEncoder.matches(WARM_UP_PASSWORD, encoded.get(0));
+            return encoded.size();
+        });
+        int requests = step("요청 경로", () -> callSelf(accessToken, deadline));
+
+        log.info("워밍업 완료: {} ms (pools={}, luaScripts={}, jwt={}, bcrypt={}, http={}){}",
+                Duration.ofNanos(System.nanoTime() - start).toMillis(), pools, scripts, jwt, hashes, requests,
+                System.nanoTime() >= deadline ? " - max-duration 초과로 일부 생략" : "");
+    }
+
+    /**
+     * 모든 Hikari 풀을 열고 minimumIdle 까지 채워질 때까지 대기 + 조회 쿼리 1회 (Hibernate, 레플리카 라우팅)
+     */
+    private int openConnectionPools(long deadline) {
+        List<HikariDataSource> pools = dataSources.orderedStream().toList();
+        for (HikariDataSource pool : pools) {
+            try (Connection connection = pool.getConnection()) {
+                connection.isValid(1);
+            } catch (SQLException e) {
+                throw new IllegalStateException(pool.getPoolName() + " 커넥션 실패", e);
+            }
+        }
+        for (HikariDataSource pool : pools) {
+            while (pool.getHikariPoolMXBean().getTotalConnections() < pool.getMinimumIdle() && System.nanoTime() < deadline) {
+                sleep();
+            }
+        }
+
+        userRepository.findByUsername(WARM_UP_USER.username());
+        return pools.size();
+    }
+
+    /**
+     * Redis 연결 + Lua 스크립트 로드 (첫 EVALSHA 의 NOSCRIPT 왕복 방지)
+     */
+    private int openRedis() {
+        Resource[] scripts;
+        try {
+            scripts = new PathMatchingResourcePatternResolver().getResources("classpath:redis/*.lua");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        redis.execute((RedisCallback<Void>) connection -> {
+            connection.ping();
+            for (Resource script : scripts) {
+                connection.scriptingCommands().scriptLoad(read(script));
+            }
+            return null;
+        });
+        redis.execute(RedisConnection::ping);
+        return scripts.length;
+    }
+
+    /**
+     * 자기 호출 (웹 서버가 없으면 생략)
+     * - CLAIMS: 합성 토큰으로 세션 목록 조회 (DB 조회 없음, 합성 회원의 세션은 없으므로 빈 목록 200)
+     * - DATABASE: 인가 필터가 회원을 조회하므로 합성 토큰은 USER_NOT_FOUND 로 실패한다. -> 토큰 없이 JWKS 조회
+     * - 정상 응답만 허용하므로 오류 로그/실패 지표를 남기지 않는다. (2xx 가 아니면 이 단계를 중단)
+     */
+    private int callSelf(String accessToken, long deadline) {
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            return 0;
+        }
+
+        RestClient client = RestClient.create("http://localhost:" + port);
+        int i = 0;
+        for (; i < httpIterations && System.nanoTime() < deadline; i++) {
+            if (principalMode == PrincipalMode.CLAIMS) {
+                client.get()
+                        .uri("/v1/users/me/sessions")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .retrieve()
+                        .toBodilessEntity();
+            } else {
+                client.get()
+                        .uri("/.well-known/jwks.json")
+                        .retrieve()
+                        .toBodilessEntity();
+            }
+        }
+        return i;
+    }
+
+    private int step(String name, WarmUpStep step) {
+        try {
+            return step.run();
+        } catch (RuntimeException e) {
+            log.warn("워밍업 단계 실패 (계속 진행): step={}, {}", name, e.getMessage());
+            return 0;
+        }
+    }
+
+    private static byte[] read(Resource resource) {
+        try (var in = resource.getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface WarmUpStep {
+        int run();
+    }
+}
@@ -0,0 +1,62 @@
+package com.sparta.userservice.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 직후 읽기 보장 (read-your-writes)
+ * - 방금 데이터를 변경한 사용자의 읽기 전용 트랜잭션은 window 동안 프라이머리로 보낸다. (레플리카 지연 회피)
+ * - 인스턴스 로컬 기록이므로 다른 인스턴스로 간 요청은 보장하지 않는다.
+ *   (아이디/회원 ID 조회는 커밋 후 갱신되는 UserCache 가 인스턴스 간에 보장)
+ */
+@Component
+public class ReadYourWritesWindow {
+
+    // 사용자 이름 -> 마지막 쓰기
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(
+            @Value("${datasource-routing.read-your-writes.window:PT2S}") Duration window,
+            @Value("${datasource-routing.read-your-writes.maximum-size:10000}") long maximumSize
+    ) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /**
+     * 현재 사용자의 쓰기 기록 (인증되지 않은 요청은 무시)
+     */
+    public void markWrite() {
+        String actor = currentActor();
+        if (actor != null) {
+            recentWriters.put(actor, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 현재 사용자가 window 안에 쓰기를 했는지
+     */
+    public boolean isWithinWindow() {
+        String actor = currentActor();
+        return actor != null && recentWriters.getIfPresent(actor) != null;
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private static String currentActor() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+}
@@ -0,0 +1,68 @@
+package com.sparta.userservice.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 커넥션 라우팅
+ * - 읽기 전용 트랜잭션 -> 레플리카, 그 외(쓰기 트랜잭션, 트랜잭션 없는 JDBC) -> 프라이머리
+ * - 방금 쓰기를 한 사용자의 읽기는 ReadYourWritesWindow 동안 프라이머리로 보낸다.
+ * - 트랜잭션 시작 시점에는 readOnly 여부가 아직 등록되지 않으므로
+ *   LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 시점에 커넥션을 고르게 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final Counter replicaReads;
+    private final Counter readYourWritesReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReadYourWritesWindow readYourWritesWindow, MeterRegistry meterRegistry) {
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.replicaReads = Counter.builder("datasource.routing.reads")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.readYourWritesReads = Counter.builder("datasource.routing.reads")
+                .tag("target", "primary")
+                .register(meterRegistry);
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (readYourWritesWindow.isWithinWindow()) {
+                readYourWritesReads.increment();
+                return Target.PRIMARY;
+            }
+            replicaReads.increment();
+            return Target.REPLICA;
+        }
+
+        // 쓰기 -> 커넥션 획득 시점과 트랜잭션 종료 시점에 기록 (긴 트랜잭션도 종료 후 window 보장)
+        readYourWritesWindow.markWrite();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    readYourWritesWindow.markWrite();
+                }
+            });
+        }
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,42 @@
+package com.sparta.userservice.global.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+import static com.sparta.userservice.domain.User.UK_EMAIL;
+import static com.sparta.userservice.domain.User.UK_USERNAME;
+import static com.sparta.userservice.global.response.ErrorCode.USER_DUPLICATED_EMAIL;
+import static com.sparta.userservice.global.response.ErrorCode.USER_DUPLICATED_USERNAME;
+
+/**
+ * 회원 유니크 제약 위반 -> 중복 에러 코드 변환
+ * - 사전 exists 조회 없이 INSERT 1회로 중복을 판단한다. (동시 가입 경쟁도 DB 가 판정)
+ */
+public final class UserConstraintTranslator {
+
+    private UserConstraintTranslator() {
+    }
+
+    public static RuntimeException translate(DataIntegrityViolationException e) {
+        String constraint = constraintName(e);
+
+        if (constraint.contains(UK_USERNAME)) {
+            return new UserException(USER_DUPLICATED_USERNAME);
+        }
+        if (constraint.contains(UK_EMAIL)) {
+            return new UserException(USER_DUPLICATED_EMAIL);
+        }
+        return e;
+    }
+
+    private static String constraintName(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,39 @@
+package com.sparta.userservice.global.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * BCrypt 실행 (해시 전용 스레드 풀, 대기 시간은 별도 필드)
+ */
+@Name("com.sparta.userservice.PasswordHash")
+@Label("Password Hash")
+@Category({"User Service", "Auth"})
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueWait;
+
+    @Label("Success")
+    boolean success;
+
+    public static PasswordHashEvent start(String operation, long queueWaitNanos) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.operation = operation;
+        event.queueWait = queueWaitNanos;
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.userservice.global.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * 토큰 Redis 호출 (TokenRedisService)
+ */
+@Name("com.sparta.userservice.RedisCall")
+@Label("Token Redis Call")
+@Category({"User Service", "Redis"})
+@StackTrace(false)
+public class RedisCallEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Success")
+    boolean success;
+
+    public static RedisCallEvent start(String operation) {
+        RedisCallEvent event = new RedisCallEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.sparta.userservice.global.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * 로그인 단계별 소요 시간 (JwtAuthenticationFilter, TokenService)
+ * - PARSE: 요청 JSON 파싱 / AUTHENTICATE: 회원 조회 + BCrypt / ISSUE_TOKENS: 토큰 서명 / SAVE_REFRESH: Redis 세션 저장
+ * - 녹화 파일이 외부로 공유될 수 있으므로 아이디 등 개인정보는 기록하지 않는다.
+ */
+@Name("com.sparta.userservice.SignIn")
+@Label("Sign In")
+@Category({"User Service", "Auth"})
+@StackTrace(false)
+public class SignInEvent extends Event {
+
+    public static final String PARSE = "PARSE";
+    public static final String AUTHENTICATE = "AUTHENTICATE";
+    public static final String ISSUE_TOKENS = "ISSUE_TOKENS";
+    public static final String SAVE_REFRESH = "SAVE_REFRESH";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Success")
+    boolean success;
+
+    public static SignInEvent start(String phase) {
+        SignInEvent event = new SignInEvent();
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.success = success;
+            commit();
+        }
+    }
+}
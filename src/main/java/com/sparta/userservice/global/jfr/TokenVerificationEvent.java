@@ -0,0 +1,34 @@
+package com.sparta.userservice.global.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * 토큰 서명/클레임 검증 (JwtProvider.validateAndParse, 검증 캐시 미스만)
+ */
+@Name("com.sparta.userservice.TokenVerification")
+@Label("Token Verification")
+@Category({"User Service", "Auth"})
+@StackTrace(false)
+public class TokenVerificationEvent extends Event {
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Exception")
+    String exception;
+
+    public static TokenVerificationEvent start() {
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(RuntimeException failure) {
+        end();
+        if (shouldCommit()) {
+            this.success = failure == null;
+            this.exception = failure == null ? null : failure.getClass().getSimpleName();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.sparta.userservice.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 결과(outcome) 태그가 붙은 타이머
+ * - (outcome, exception) 조합별 타이머를 한 번만 등록하고 재사용한다.
+ * - 백분위 히스토그램은 application.yml 의 management.metrics.distribution 에서 켠다.
+ */
+public class OutcomeTimer {
+
+    public static final String OUTCOME = "outcome";
+    public static final String EXCEPTION = "exception";
+    public static final String SUCCESS = "SUCCESS";
+    public static final String ERROR = "ERROR";
+
+    private final MeterRegistry registry;
+    private final String name;
+    private final Tags tags;
+    private final Timer success;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public OutcomeTimer(MeterRegistry registry, String name, String... tags) {
+        this.registry = registry;
+        this.name = name;
+        this.tags = Tags.of(tags);
+        this.success = timer(SUCCESS, "none");
+    }
+
+    public <T> T record(Supplier<T> operation) {
+        long start = System.nanoTime();
+        try {
+            T result = operation.get();
+            success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            error(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    public void run(Runnable operation) {
+        record(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * 결과 태그를 작업이 정하는 경우 (반환값이 outcome, 예외는 ERROR)
+     */
+    public String recordOutcome(Supplier<String> operation) {
+        long start = System.nanoTime();
+        try {
+            String outcome = operation.get();
+            timer(outcome, "none").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return outcome;
+        } catch (RuntimeException e) {
+            error(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * 직접 측정한 시간 기록
+     */
+    public void record(String outcome, long elapsedNanos) {
+        timer(outcome, "none").record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private Timer error(RuntimeException e) {
+        return timer(ERROR, e.getClass().getSimpleName());
+    }
+
+    private Timer timer(String outcome, String exception) {
+        return timers.computeIfAbsent(outcome + ":" + exception, key -> Timer.builder(name)
+                .tags(tags.and(Tag.of(OUTCOME, outcome), Tag.of(EXCEPTION, exception)))
+                .register(registry));
+    }
+}
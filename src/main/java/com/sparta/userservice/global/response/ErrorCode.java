@@ -22,6 +22,11 @@ public enum ErrorCode {
     USER_VENDOR_ID_REQUIRED(1011, HttpStatus.BAD_REQUEST, "업체 아이디가 누락 되었습니다."),
     USER_DELIVERY_TYPE_REQUIRED(1012, HttpStatus.BAD_REQUEST, "배달 담당자 유형이 누락 되었습니다."),
     USER_DATA_MISMATCH(1013, HttpStatus.BAD_REQUEST, "회원 정보가 일치하지 않습니다."),
+    USER_PASSWORD_HASHING_BUSY(1014, HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    USER_REFRESH_TOKEN_REUSED(1015, HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
+    USER_SESSION_NOT_FOUND(1016, HttpStatus.NOT_FOUND, "일치하는 로그인 세션을 찾을 수 없습니다."),
+    USER_TOKEN_STORE_UNAVAILABLE(1017, HttpStatus.SERVICE_UNAVAILABLE, "일시적으로 로그인 정보를 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    USER_SESSION_EXPIRED(1018, HttpStatus.UNAUTHORIZED, "로그인 유지 기간이 지났습니다. 다시 로그인해주세요."),
 
 
     USER_BAD_REQUEST(1997, HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
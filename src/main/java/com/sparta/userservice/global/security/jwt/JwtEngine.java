@@ -0,0 +1,254 @@
+package com.sparta.userservice.global.security.jwt;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.security.SignatureException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ES256 토큰 발급/검증 엔진 (kid 헤더)
+ * - kid 별 헤더 세그먼트와 issuer JSON 은 미리 직렬화해 둔다.
+ * - 서명/검증은 스레드별 Signature 인스턴스를 재사용한다. (JWS 서명 형식 r||s = P1363)
+ * - 검증은 이 엔진의 kid 헤더와 같은 토큰을 빠른 경로로 처리하고, 서명 불일치/만료 등은
+ *   jjwt 와 같은 예외를 바로 던진다. (알 수 없는 헤더만 공유 JwtParser 로 검증)
+ */
+public class JwtEngine {
+
+    private static final String SIGNATURE_ALGORITHM = "SHA256withECDSAinP1363Format";
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectReader PAYLOAD_READER = JSON_MAPPER.readerFor(new TypeReference<Map<String, Object>>() {
+    });
+    private static final JsonFactory JSON = JSON_MAPPER.getFactory();
+    private static final SerializedString ISS = new SerializedString("iss");
+    private static final SerializedString SUB = new SerializedString("sub");
+    private static final SerializedString IAT = new SerializedString("iat");
+    private static final SerializedString EXP = new SerializedString("exp");
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    private final String issuerValue;
+    private final SerializedString issuer;
+    private final JwtKeySet keys;
+
+    // 활성 키 헤더 세그먼트 ({"alg":"ES256","kid":"..."} + ".")
+    private final byte[] headerSegment;
+    // 헤더 세그먼트 + "." -> 검증 키
+    private final Map<String, JwtKeySet.JwtKey> keysByHeader;
+    private final ThreadLocal<Signature> signatures = ThreadLocal.withInitial(JwtEngine::newSignature);
+    private final JwtParser parser;
+
+    public JwtEngine(String issuer, JwtKeySet keys) {
+        this.issuerValue = issuer;
+        this.issuer = new SerializedString(issuer);
+        this.keys = keys;
+        this.headerSegment = headerSegment(keys.active().kid()).getBytes(StandardCharsets.US_ASCII);
+
+        Map<String, JwtKeySet.JwtKey> byHeader = new HashMap<>();
+        for (JwtKeySet.JwtKey key : keys.keys()) {
+            byHeader.put(headerSegment(key.kid()), key);
+        }
+        this.keysByHeader = byHeader;
+
+        this.parser = Jwts.parser()
+                .requireIssuer(issuer)
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        JwtKeySet.JwtKey key = keys.find(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("알 수 없는 kid: " + header.getKeyId());
+                        }
+                        return key.publicKey();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 토큰 발급 (null 클레임은 생략)
+     */
+    public String sign(String subject, Map<String, ?> claims, Instant issuedAt, Instant expiration) {
+        byte[] payload = BASE64_URL.encode(payloadJson(subject, claims, issuedAt, expiration));
+
+        byte[] signingInput = new byte[headerSegment.length + payload.length];
+        System.arraycopy(headerSegment, 0, signingInput, 0, headerSegment.length);
+        System.arraycopy(payload, 0, signingInput, headerSegment.length, payload.length);
+
+        byte[] signature = BASE64_URL.encode(signWithActiveKey(signingInput));
+
+        byte[] token = new byte[signingInput.length + 1 + signature.length];
+        System.arraycopy(signingInput, 0, token, 0, signingInput.length);
+        token[signingInput.length] = '.';
+        System.arraycopy(signature, 0, token, signingInput.length + 1, signature.length);
+
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 토큰 검증 (서명, issuer, 만료)
+     */
+    public Claims parse(String token) {
+        Claims claims = tryParseFast(token);
+        return claims != null ? claims : parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 공유 파서 (kid 로 키 선택, 서명, issuer, 만료 검증)
+     */
+    public JwtParser parser() {
+        return parser;
+    }
+
+    public JwtKeySet keys() {
+        return keys;
+    }
+
+    // =========================== 유틸 메서드 ===========================
+
+    private byte[] payloadJson(String subject, Map<String, ?> claims, Instant issuedAt, Instant expiration) {
+        try (ByteArrayBuilder out = new ByteArrayBuilder(256);
+             JsonGenerator gen = JSON.createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeFieldName(ISS);
+            gen.writeString(issuer);
+            gen.writeFieldName(SUB);
+            gen.writeString(subject);
+            for (Map.Entry<String, ?> claim : claims.entrySet()) {
+                if (claim.getValue() != null) {
+                    gen.writeStringField(claim.getKey(), claim.getValue().toString());
+                }
+            }
+            gen.writeFieldName(IAT);
+            gen.writeNumber(issuedAt.getEpochSecond());
+            gen.writeFieldName(EXP);
+            gen.writeNumber(expiration.getEpochSecond());
+            gen.writeEndObject();
+            gen.flush();
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 빠른 경로 검증 (헤더가 이 엔진의 kid 헤더가 아니면 null -> JwtParser 가 판단)
+     * - 만료 판단은 jjwt 와 같다. (만료 시각까지 유효, exp 가 없으면 만료 없음)
+     * - nbf 는 발급 시 넣지 않고, 이 키로 서명된 토큰은 이 서비스가 발급한 것이므로 확인하지 않는다.
+     */
+    private Claims tryParseFast(String token) {
+        int headerEnd = token.indexOf('.') + 1;
+        int signatureStart = token.lastIndexOf('.') + 1;
+        if (headerEnd == 0 || signatureStart <= headerEnd || token.indexOf('.', headerEnd) != signatureStart - 1) {
+            return null;
+        }
+
+        // 미리 만든 헤더와 같을 때만 (알 수 없는 kid/alg 는 파서가 판단)
+        JwtKeySet.JwtKey key = keysByHeader.get(token.substring(0, headerEnd));
+        if (key == null) {
+            return null;
+        }
+
+        // 1. 서명 검증
+        if (!verify(key, token.substring(0, signatureStart - 1), token.substring(signatureStart))) {
+            throw new SignatureException("JWT 서명 불일치: kid=" + key.kid());
+        }
+
+        // 2. 페이로드
+        Map<String, Object> payload;
+        try {
+            payload = PAYLOAD_READER.readValue(BASE64_URL_DECODER.decode(token.substring(headerEnd, signatureStart - 1)));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new MalformedJwtException("JWT 페이로드 파싱 실패: " + e.getMessage(), e);
+        }
+        Object exp = payload.get("exp");
+        if (exp != null && !(exp instanceof Number)) {
+            throw new MalformedJwtException("JWT exp 형식 오류: " + exp);
+        }
+        Claims claims = Jwts.claims().add(payload).build();
+
+        // 3. issuer, 만료 확인
+        Object iss = payload.get("iss");
+        if (iss == null) {
+            throw new MissingClaimException(header(key), claims, Claims.ISSUER, issuerValue, "JWT issuer 없음");
+        }
+        if (!issuerValue.equals(iss)) {
+            throw new IncorrectClaimException(header(key), claims, Claims.ISSUER, issuerValue, "JWT issuer 불일치: " + iss);
+        }
+        if (exp != null) {
+            long expiredFor = System.currentTimeMillis() - ((Number) exp).longValue() * 1000;
+            if (expiredFor > 0) {
+                throw new ExpiredJwtException(header(key), claims, "JWT 만료: " + expiredFor + "ms 전");
+            }
+        }
+        return claims;
+    }
+
+    private boolean verify(JwtKeySet.JwtKey key, String signingInput, String signature) {
+        byte[] decoded;
+        try {
+            decoded = BASE64_URL_DECODER.decode(signature);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("JWT 서명 디코딩 실패: " + e.getMessage(), e);
+        }
+
+        try {
+            Signature verifier = signatures.get();
+            verifier.initVerify(key.publicKey());
+            verifier.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return verifier.verify(decoded);
+        } catch (GeneralSecurityException e) {
+            // 서명 길이/형식이 ES256 과 다름
+            throw new SignatureException("JWT 서명 검증 실패: kid=" + key.kid(), e);
+        }
+    }
+
+    /**
+     * 예외에 담을 헤더 (실패 경로에서만 생성)
+     */
+    private static Header header(JwtKeySet.JwtKey key) {
+        return Jwts.header().add("alg", JwtKeySet.ALGORITHM).keyId(key.kid()).build();
+    }
+
+    private byte[] signWithActiveKey(byte[] signingInput) {
+        try {
+            Signature signer = signatures.get();
+            signer.initSign(keys.active().privateKey());
+            signer.update(signingInput);
+            return signer.sign();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String headerSegment(String kid) {
+        String header = "{\"alg\":\"" + JwtKeySet.ALGORITHM + "\",\"kid\":\"" + kid + "\"}";
+        return BASE64_URL.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + ".";
+    }
+
+    private static Signature newSignature() {
+        try {
+            return Signature.getInstance(SIGNATURE_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.sparta.userservice.global.security.jwt;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.*;
+import java.security.cert.Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * JWT 서명 키 묶음 (ES256, kid 별)
+ * - 활성 키 하나로 서명하고, 묶음의 모든 키로 검증한다. (교체 중 이전 키로 서명된 토큰도 유효)
+ * - 공개키는 JWKS 로 공개해 게이트웨이/다른 서비스가 user-service 호출 없이 검증하게 한다.
+ * <p>
+ * 키 교체 (PKCS12 키 저장소, alias = kid)
+ * 1. 새 키 추가 후 배포 -> JWKS 에 먼저 공개 (서명은 기존 키)
+ * 2. JWKS 캐시 시간(jwt.jwks.max-age)이 지난 뒤 active-kid 를 새 키로 변경
+ * 3. 리프레시 토큰 유효 기간(14일)이 지난 뒤 이전 키 제거
+ */
+public class JwtKeySet {
+
+    public static final String ALGORITHM = "ES256";
+    private static final String CURVE = "P-256";
+    private static final ECParameterSpec CURVE_PARAMETERS = curveParameters("secp256r1");
+    private static final int COORDINATE_LENGTH = 32;
+
+    // 헤더 JSON 에 그대로 넣으므로 이스케이프가 필요 없는 문자만 허용
+    private static final Pattern KID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final JwtKey active;
+    private final Map<String, JwtKey> keys;
+    private final byte[] jwks;
+    private final String jwksETag;
+
+    public JwtKeySet(List<JwtKey> keys, String activeKid) {
+        Map<String, JwtKey> byKid = new LinkedHashMap<>();
+        for (JwtKey key : keys) {
+            if (!KID_PATTERN.matcher(key.kid()).matches()) {
+                throw new IllegalArgumentException("허용되지 않는 kid: " + key.kid());
+            }
+            if (!isP256(key.publicKey().getParams())) {
+                throw new IllegalArgumentException(
+                        "ES256 은 P-256(secp256r1) 키만 사용할 수 있음: kid=" + key.kid() + ", curve=" + key.publicKey().getParams());
+            }
+            byKid.put(key.kid(), key);
+        }
+
+        JwtKey activeKey = byKid.get(activeKid);
+        if (activeKey == null || activeKey.privateKey() == null) {
+            throw new IllegalArgumentException("활성 키(개인키 포함)를 찾을 수 없음: kid=" + activeKid);
+        }
+
+        this.active = activeKey;
+        this.keys = Collections.unmodifiableMap(byKid);
+        this.jwks = writeJwks(byKid.values());
+        this.jwksETag = digest(jwks);
+    }
+
+    /**
+     * PKCS12 키 저장소에서 읽기 (개인키가 없는 인증서 항목은 검증 전용)
+     * - EC P-256 이 아닌 항목이 있으면 기동 실패 (키 크기만 같은 secp256k1, brainpoolP256r1 등 포함)
+     */
+    public static JwtKeySet load(Path keyStorePath, char[] password, String activeKid) {
+        try (InputStream in = Files.newInputStream(keyStorePath)) {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(in, password);
+
+            List<JwtKey> keys = new ArrayList<>();
+            for (String alias : Collections.list(keyStore.aliases())) {
+                Certificate certificate = keyStore.getCertificate(alias);
+                if (certificate == null) {
+                    continue;
+                }
+                if (!(certificate.getPublicKey() instanceof ECPublicKey publicKey)) {
+                    throw new IllegalArgumentException(
+                            "ES256 은 EC P-256 키만 사용할 수 있음: alias=" + alias + ", algorithm=" + certificate.getPublicKey().getAlgorithm());
+                }
+                PrivateKey privateKey = keyStore.isKeyEntry(alias) ? (PrivateKey) keyStore.getKey(alias, password) : null;
+                keys.add(new JwtKey(alias, publicKey, privateKey));
+            }
+            return new JwtKeySet(keys, activeKid);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 키 저장소를 읽을 수 없음: " + keyStorePath, e);
+        }
+    }
+
+    /**
+     * 임시 키 생성 (로컬 개발용, 재시작/인스턴스마다 달라짐)
+     */
+    public static JwtKeySet generate() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+
+            String kid = "dev-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+            return new JwtKeySet(List.of(new JwtKey(kid, (ECPublicKey) keyPair.getPublic(), keyPair.getPrivate())), kid);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public JwtKey active() {
+        return active;
+    }
+
+    public JwtKey find(String kid) {
+        return kid == null ? null : keys.get(kid);
+    }
+
+    public Collection<JwtKey> keys() {
+        return keys.values();
+    }
+
+    /**
+     * JWKS 문서 ({"keys":[...]}, 미리 직렬화)
+     */
+    public byte[] jwks() {
+        return jwks.clone();
+    }
+
+    public String jwksETag() {
+        return jwksETag;
+    }
+
+    /**
+     * @param kid        키 ID (JWT 헤더 kid, 키 저장소 alias)
+     * @param publicKey  검증 키
+     * @param privateKey 서명 키 (검증 전용이면 null)
+     */
+    public record JwtKey(String kid, ECPublicKey publicKey, PrivateKey privateKey) {
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private static byte[] writeJwks(Collection<JwtKey> keys) {
+        Base64.Encoder base64Url = Base64.getUrlEncoder().withoutPadding();
+        try (ByteArrayBuilder out = new ByteArrayBuilder(256 * keys.size());
+             JsonGenerator gen = new JsonFactory().createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("keys");
+            for (JwtKey key : keys) {
+                gen.writeStartObject();
+                gen.writeStringField("kty", "EC");
+                gen.writeStringField("crv", CURVE);
+                gen.writeStringField("kid", key.kid());
+                gen.writeStringField("use", "sig");
+                gen.writeStringField("alg", ALGORITHM);
+                gen.writeStringField("x", base64Url.encodeToString(coordinate(key.publicKey().getW().getAffineX())));
+                gen.writeStringField("y", base64Url.encodeToString(coordinate(key.publicKey().getW().getAffineY())));
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+            gen.flush();
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 좌표를 고정 길이(32바이트) 부호 없는 빅엔디언으로 변환 (RFC 7518 6.2.1.2)
+     */
+    private static byte[] coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[COORDINATE_LENGTH];
+        int length = Math.min(bytes.length, COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - length, fixed, COORDINATE_LENGTH - length, length);
+        return fixed;
+    }
+
+    /**
+     * 곡선 파라미터 전체 비교 (필드 크기만 보면 secp256k1, brainpoolP256r1 도 통과하므로 곡선/생성점/위수/보조인자까지 확인)
+     */
+    private static boolean isP256(ECParameterSpec params) {
+        return params.getCurve().equals(CURVE_PARAMETERS.getCurve())
+                && params.getGenerator().equals(CURVE_PARAMETERS.getGenerator())
+                && params.getOrder().equals(CURVE_PARAMETERS.getOrder())
+                && params.getCofactor() == CURVE_PARAMETERS.getCofactor();
+    }
+
+    private static ECParameterSpec curveParameters(String name) {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec(name));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String digest(byte[] value) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,21 +1,29 @@
 package com.sparta.userservice.global.security.jwt;
 
-import com.sparta.userservice.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sparta.userservice.global.cache.UserSnapshot;
+import com.sparta.userservice.global.jfr.TokenVerificationEvent;
+import com.sparta.userservice.global.metrics.OutcomeTimer;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
-import java.util.Date;
-
-import static io.jsonwebtoken.SignatureAlgorithm.HS256;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Component
@@ -32,59 +40,223 @@ public class JwtProvider {
     public static final String TOKEN_TYPE = "x-token-type";
     public static final String TOKEN_ACCESS = "access";
     public static final String TOKEN_REFRESH = "refresh";
+    public static final String CLAIM_JWT_ID = "jti";
+    public static final String CLAIM_SESSION_ID = "sid";
+    // 최초 로그인 시각 (epoch 초, 재발급 시 유지 -> 세션 절대 수명 계산)
+    public static final String CLAIM_AUTH_TIME = "x-auth-time";
 
     @Value("${jwt.issuer}")
     private String issuer;
 
-    @Value("${jwt.secret.key}")
-    private String secretBase64;
-    private SecretKey secretKey;
+    // PKCS12 키 저장소 (필수, 비어 있으면 ephemeral-key 를 켠 경우에만 임시 키 생성)
+    @Value("${jwt.signing.key-store:}")
+    private String keyStorePath;
+
+    // 키 저장소 없이 임시 키 허용 (로컬 개발/테스트 전용, 인스턴스마다 키가 달라 다른 인스턴스 토큰 검증 불가)
+    @Value("${jwt.signing.ephemeral-key:false}")
+    private boolean ephemeralKey;
+
+    @Value("${jwt.signing.key-store-password:}")
+    private String keyStorePassword;
+
+    @Value("${jwt.signing.active-kid:}")
+    private String activeKid;
+
+    // 세션 절대 수명 (로그인 후 이 기간이 지나면 재발급 불가, 다시 로그인)
+    @Value("${jwt.session.max-lifetime:P30D}")
+    private Duration sessionMaxLifetime;
+
+    private JwtKeySet keySet;
+    private JwtEngine engine;
+
+    @Value("${jwt.verification-cache.maximum-size:50000}")
+    private long verificationCacheSize;
+
+    @Value("${jwt.verification-cache.max-ttl:PT1M}")
+    private Duration verificationCacheMaxTtl;
+
+    // 토큰 다이제스트 -> 검증 결과 (토큰 만료 시각을 넘기지 않음)
+    private Cache<String, VerifiedToken> verificationCache;
+
+    private final MeterRegistry meterRegistry;
+    private OutcomeTimer signAccessTimer;
+    private OutcomeTimer signRefreshTimer;
+    private OutcomeTimer verifyHitTimer;
+    private OutcomeTimer verifyMissTimer;
+    private OutcomeTimer parseTimer;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
 
     @PostConstruct
     public void init() {
-        secretKey = Keys.hmacShaKeyFor(Base64.getDecoder()
-                .decode(secretBase64)
-        );
+        if (keyStorePath == null || keyStorePath.isBlank()) {
+            if (!ephemeralKey) {
+                throw new IllegalStateException(
+                        "JWT 키 저장소(jwt.signing.key-store) 미설정 - 로컬 개발/테스트는 jwt.signing.ephemeral-key=true (JWT_EPHEMERAL_KEY)");
+            }
+            keySet = JwtKeySet.generate();
+            log.warn("JWT 키 저장소 미설정 - 임시 서명 키 사용 (재시작 시 기존 토큰 무효): kid={}", keySet.active().kid());
+        } else {
+            keySet = JwtKeySet.load(Path.of(keyStorePath), keyStorePassword.toCharArray(), activeKid);
+            log.info("JWT 서명 키 로드: active={}, keys={}", keySet.active().kid(), keySet.keys().size());
+        }
+        engine = new JwtEngine(issuer, keySet);
+        verificationCache = Caffeine.newBuilder()
+                .maximumSize(verificationCacheSize)
+                .expireAfter(Expiry.<String, VerifiedToken>writing((digest, verified) -> {
+                    Duration untilExpiration = Duration.between(Instant.now(), verified.expiration().toInstant());
+                    if (untilExpiration.isNegative()) {
+                        return Duration.ZERO;
+                    }
+                    return untilExpiration.compareTo(verificationCacheMaxTtl) < 0 ? untilExpiration : verificationCacheMaxTtl;
+                }))
+                .build();
+
+        signAccessTimer = new OutcomeTimer(meterRegistry, "jwt.sign", "type", TOKEN_ACCESS);
+        signRefreshTimer = new OutcomeTimer(meterRegistry, "jwt.sign", "type", TOKEN_REFRESH);
+        verifyHitTimer = new OutcomeTimer(meterRegistry, "jwt.verify", "cache", "hit");
+        verifyMissTimer = new OutcomeTimer(meterRegistry, "jwt.verify", "cache", "miss");
+        parseTimer = new OutcomeTimer(meterRegistry, "jwt.parse");
+    }
+
+    /**
+     * 엑세스 토큰 발급 (로그인 직후, 로그인 시각 = 지금)
+     */
+    public String createAccessToken(UserSnapshot user, String sessionId) {
+        return createAccessToken(user, sessionId, Instant.now());
     }
 
-    public String createAccessToken(User user) {
+    public String createAccessToken(UserSnapshot user, String sessionId, Instant authTime) {
         Instant now = Instant.now();
+        Map<String, Object> claims = profileClaims(user, TOKEN_ACCESS, sessionId, authTime);
+
+        return signAccessTimer.record(() ->
+                engine.sign(String.valueOf(user.userId()), claims, now, now.plus(ACCESS_TOKEN_VALIDITY_DURATION))
+        );
+    }
 
-        return Jwts.builder()
-                .issuer(issuer)
-                .subject(String.valueOf(user.getUserId()))
-                .claim(CLAIM_USERNAME, user.getUsername())
-                .claim(CLAIM_ROLE, user.getRole().name())
-                .claim(CLAIM_HUB_ID, user.getHubId())
-                .claim(CLAIM_VENDOR_ID, user.getVendorId())
-                .claim(TOKEN_TYPE, TOKEN_ACCESS)
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(now.plus(ACCESS_TOKEN_VALIDITY_DURATION)))
-                .signWith(secretKey, HS256)
-                .compact();
-    }
-
-    public String createRefreshToken(Long userId) {
+    /**
+     * 리프레시 토큰 발급 (로그인 직후, 로그인 시각 = 지금)
+     */
+    public String createRefreshToken(UserSnapshot user, String sessionId) {
+        return createRefreshToken(user, sessionId, Instant.now());
+    }
+
+    /**
+     * 리프레시 토큰 발급
+     * - 만료 시각은 세션 절대 수명(로그인 시각 + max-lifetime)을 넘지 않는다.
+     * - jti 로 같은 초에 발급된 토큰도 서로 다른 값이 되게 한다. (재사용 탐지)
+     */
+    public String createRefreshToken(UserSnapshot user, String sessionId, Instant authTime) {
         Instant now = Instant.now();
+        Map<String, Object> claims = profileClaims(user, TOKEN_REFRESH, sessionId, authTime);
+        claims.put(CLAIM_JWT_ID, newJwtId());
+
+        Instant expiration = now.plus(REFRESH_TOKEN_VALIDITY_DURATION);
+        Instant sessionExpiration = sessionExpiration(authTime);
+        Instant refreshExpiration = expiration.isBefore(sessionExpiration) ? expiration : sessionExpiration;
+        return signRefreshTimer.record(() ->
+                engine.sign(String.valueOf(user.userId()), claims, now, refreshExpiration)
+        );
+    }
+
+    /**
+     * 리프레시 토큰으로 새 토큰 쌍 발급
+     * - 클레임은 현재 회원 스냅샷으로 다시 만들고, 세션 ID 와 로그인 시각은 유지한다.
+     */
+    public TokenPair rotate(VerifiedToken refresh, UserSnapshot user) {
+        Instant authTime = authTime(refresh);
+        return new TokenPair(
+                createAccessToken(user, refresh.sessionId(), authTime),
+                createRefreshToken(user, refresh.sessionId(), authTime)
+        );
+    }
+
+    /**
+     * 최초 로그인 시각 (클레임이 없는 이전 버전 토큰은 발급 시각)
+     */
+    public Instant authTime(VerifiedToken token) {
+        String authTime = token.claims().get(CLAIM_AUTH_TIME, String.class);
+        return authTime == null ? token.claims().getIssuedAt().toInstant() : Instant.ofEpochSecond(Long.parseLong(authTime));
+    }
+
+    /**
+     * 세션 절대 만료 시각 (재발급을 반복해도 연장되지 않음)
+     */
+    public Instant sessionExpiration(Instant authTime) {
+        return authTime.plus(sessionMaxLifetime);
+    }
+
+    /**
+     * 새 세션 ID (로그인마다 발급, 재발급 시 유지)
+     */
+    public static String newSessionId() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * 엑세스 토큰 유효 기간 (세션 폐기 시 블랙리스트 TTL 상한)
+     */
+    public Duration getAccessTokenValidity() {
+        return ACCESS_TOKEN_VALIDITY_DURATION;
+    }
+
+    /**
+     * 리프레시 토큰 유효 기간 (Redis TTL 용, 발급 직후 저장하므로 다시 파싱하지 않는다)
+     */
+    public Duration getRefreshTokenValidity() {
+        return REFRESH_TOKEN_VALIDITY_DURATION;
+    }
+
+    /**
+     * 서명 키 묶음 (JWKS 공개용)
+     */
+    public JwtKeySet getKeySet() {
+        return keySet;
+    }
+
+    /**
+     * 토큰 검증 (검증 캐시 -> 서명 검증)
+     * - 같은 토큰이 반복 요청되면 ECDSA 검증과 파싱을 생략한다.
+     */
+    public VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        String digest = digest(token);
 
-        return Jwts.builder()
-                .issuer(issuer)
-                .subject(String.valueOf(userId))
-                .claim(TOKEN_TYPE, TOKEN_REFRESH)
-                .issuedAt(Date.from(now))
-                .expiration(Date.from(now.plus(REFRESH_TOKEN_VALIDITY_DURATION)))
-                .signWith(secretKey, HS256)
-                .compact();
+        VerifiedToken cached = verificationCache.getIfPresent(digest);
+        if (cached != null) {
+            verifyHitTimer.record(OutcomeTimer.SUCCESS, System.nanoTime() - start);
+            return cached;
+        }
+
+        VerifiedToken verified = verifyMissTimer.record(() -> new VerifiedToken(token, digest, validateAndParse(token)));
+        verificationCache.put(digest, verified);
+        return verified;
     }
 
     public Claims validateAndParse(String token) {
+        TokenVerificationEvent event = TokenVerificationEvent.start();
+        try {
+            Claims claims = parseTimer.record(() -> parse(token));
+            event.finish(null);
+            return claims;
+        } catch (RuntimeException e) {
+            event.finish(e);
+            throw e;
+        }
+    }
+
+    // =========================== 유틸 메서드 ===========================
+
+    private Claims parse(String token) {
         try {
-            return Jwts.parser()
-                    .requireIssuer(issuer)
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return engine.parse(token);
         } catch (SecurityException | MalformedJwtException e) {
             log.error("유효하지 않는 토큰: {}", e.getMessage());
             throw e;
@@ -99,4 +271,32 @@ public class JwtProvider {
             throw e;
         }
     }
+
+    /**
+     * 인가에 필요한 값만 담는다. (토큰은 암호화되지 않으므로 이름/이메일/슬랙 ID 등 개인정보 제외)
+     */
+    private static Map<String, Object> profileClaims(UserSnapshot user, String type, String sessionId, Instant authTime) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put(CLAIM_USERNAME, user.username());
+        claims.put(CLAIM_ROLE, user.role().name());
+        claims.put(CLAIM_HUB_ID, user.hubId());
+        claims.put(CLAIM_VENDOR_ID, user.vendorId());
+        claims.put(TOKEN_TYPE, type);
+        claims.put(CLAIM_SESSION_ID, sessionId);
+        claims.put(CLAIM_AUTH_TIME, authTime.getEpochSecond());
+        return claims;
+    }
+
+    private static String newJwtId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong());
+    }
+
+    /**
+     * 토큰 SHA-256 다이제스트 (Base64 URL)
+     */
+    public static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
 }
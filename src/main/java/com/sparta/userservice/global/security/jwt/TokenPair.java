@@ -0,0 +1,7 @@
+package com.sparta.userservice.global.security.jwt;
+
+/**
+ * 엑세스/리프레시 토큰 쌍
+ */
+public record TokenPair(String access, String refresh) {
+}
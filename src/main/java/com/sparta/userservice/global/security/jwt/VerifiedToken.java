@@ -0,0 +1,46 @@
+package com.sparta.userservice.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+import static com.sparta.userservice.global.security.jwt.JwtProvider.*;
+
+/**
+ * 서명/만료 검증이 끝난 토큰 (요청당 1회 생성 후 필터 -> 서비스로 전달)
+ *
+ * @param token  원본 토큰
+ * @param digest 토큰 SHA-256 다이제스트 (검증 캐시 키)
+ * @param claims 검증된 클레임
+ */
+public record VerifiedToken(String token, String digest, Claims claims) {
+
+    public static final String REQUEST_ATTRIBUTE = VerifiedToken.class.getName();
+
+    public String subject() {
+        return claims.getSubject();
+    }
+
+    /**
+     * 세션 ID (이전 버전에서 발급된 토큰은 null)
+     */
+    public String sessionId() {
+        return claims.get(CLAIM_SESSION_ID, String.class);
+    }
+
+    public Date expiration() {
+        return claims.getExpiration();
+    }
+
+    public String type() {
+        return claims.get(TOKEN_TYPE, String.class);
+    }
+
+    public boolean isAccess() {
+        return TOKEN_ACCESS.equals(type());
+    }
+
+    public boolean isRefresh() {
+        return TOKEN_REFRESH.equals(type());
+    }
+}
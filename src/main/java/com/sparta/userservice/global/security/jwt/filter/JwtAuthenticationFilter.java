@@ -1,18 +1,21 @@
 package com.sparta.userservice.global.security.jwt.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sparta.userservice.domain.User;
 import com.sparta.userservice.dto.request.SignInReqDto;
+import com.sparta.userservice.global.cache.UserSnapshot;
 import com.sparta.userservice.global.exception.UserException;
+import com.sparta.userservice.global.jfr.SignInEvent;
+import com.sparta.userservice.global.response.ApiResponse;
 import com.sparta.userservice.global.response.ErrorCode;
-import com.sparta.userservice.global.security.jwt.JwtProvider;
 import com.sparta.userservice.global.security.jwt.user.UserDetailsImpl;
-import com.sparta.userservice.service.TokenRedisService;
+import com.sparta.userservice.global.security.jwt.TokenPair;
+import com.sparta.userservice.service.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -20,37 +23,57 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 @Slf4j
 @Component
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
-    private final JwtProvider jwtProvider;
-    private final TokenRedisService tokenRedisService;
+    private final TokenService tokenService;
 
     private static final String AUTHORIZATION_HEADER = HttpHeaders.AUTHORIZATION;
     private static final String REFRESH_TOKEN_HEADER = "X-Refresh-Token";
     private static final String BEARER_PREFIX = "Bearer ";
     private static final String EXPOSE_HEADERS = "Access-Control-Expose-Headers";
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider, TokenRedisService tokenRedisService) {
-        this.jwtProvider = jwtProvider;
-        this.tokenRedisService = tokenRedisService;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public JwtAuthenticationFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
         setFilterProcessesUrl("/v1/auth/sign-in");
     }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
         try {
-            SignInReqDto requestDto = new ObjectMapper().readValue(request.getInputStream(), SignInReqDto.class);
+            SignInEvent parse = SignInEvent.start(SignInEvent.PARSE);
+            SignInReqDto requestDto = null;
+            try {
+                requestDto = OBJECT_MAPPER.readValue(request.getInputStream(), SignInReqDto.class);
+            } finally {
+                parse.finish(requestDto != null);
+            }
 
-            return getAuthenticationManager().authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            requestDto.getUsername(),
-                            requestDto.getPassword(),
-                            null
-                    )
-            );
+            // 회원 조회 + BCrypt
+            SignInEvent authenticate = SignInEvent.start(SignInEvent.AUTHENTICATE);
+            boolean success = false;
+            try {
+                Authentication result = getAuthenticationManager().authenticate(
+                        new UsernamePasswordAuthenticationToken(
+                                requestDto.getUsername(),
+                                requestDto.getPassword(),
+                                null
+                        )
+                );
+                success = true;
+                return result;
+            } finally {
+                authenticate.finish(success);
+            }
+        } catch (UserException e) {
+            // 비밀번호 해시 풀 포화 등 -> 에러 응답 후 인증 중단
+            writeError(response, e.getErrorCode());
+            return null;
         } catch (IOException e) {
             log.error(e.getMessage());
             throw new RuntimeException(e.getMessage());
@@ -63,15 +86,20 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             HttpServletRequest request, HttpServletResponse response,
             FilterChain chain, Authentication authResult
     ) {
-        User user = ((UserDetailsImpl) authResult.getPrincipal()).getUser();
-
-        String access = jwtProvider.createAccessToken(user);
-        String refresh = jwtProvider.createRefreshToken(user.getUserId());
+        UserSnapshot user = ((UserDetailsImpl) authResult.getPrincipal()).getUser();
 
-        tokenRedisService.saveRefresh(refresh);
+        // 기기마다 세션 발급 (다른 기기 세션은 유지)
+        TokenPair pair;
+        try {
+            pair = tokenService.signIn(user, request.getHeader(HttpHeaders.USER_AGENT));
+        } catch (UserException e) {
+            // Redis 장애 + FAIL_CLOSED
+            writeError(response, e.getErrorCode());
+            return;
+        }
 
-        response.addHeader(AUTHORIZATION_HEADER, BEARER_PREFIX + access);
-        response.addHeader(REFRESH_TOKEN_HEADER, refresh);
+        response.addHeader(AUTHORIZATION_HEADER, BEARER_PREFIX + pair.access());
+        response.addHeader(REFRESH_TOKEN_HEADER, pair.refresh());
         response.addHeader(EXPOSE_HEADERS, AUTHORIZATION_HEADER + ", " + REFRESH_TOKEN_HEADER);
     }
 
@@ -81,4 +109,17 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         log.error("아이디 또는 비밀번호가 일치하지 않음");
         throw new UserException(ErrorCode.USER_INTERNAL_SERVER_ERROR);
     }
+
+    // =========================== 유틸 메서드 ===========================
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) {
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try {
+            OBJECT_MAPPER.writeValue(response.getOutputStream(), new ApiResponse<>(errorCode));
+        } catch (IOException e) {
+            log.error("에러 응답 작성 실패: {}", e.getMessage());
+        }
+    }
 }
\ No newline at end of file
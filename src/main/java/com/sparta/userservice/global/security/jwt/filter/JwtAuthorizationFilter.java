@@ -1,18 +1,21 @@
 package com.sparta.userservice.global.security.jwt.filter;
 
+import com.sparta.userservice.global.metrics.OutcomeTimer;
 import com.sparta.userservice.global.security.jwt.JwtProvider;
-import com.sparta.userservice.global.security.jwt.user.UserDetailsImpl;
+import com.sparta.userservice.global.security.jwt.VerifiedToken;
+import com.sparta.userservice.global.security.jwt.user.ClaimsUserDetails;
+import com.sparta.userservice.global.security.jwt.user.PrincipalMode;
 import com.sparta.userservice.global.security.jwt.user.UserDetailsServiceImpl;
 import com.sparta.userservice.service.TokenRedisService;
-import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -26,48 +29,47 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final UserDetailsServiceImpl userDetailsService;
     private final TokenRedisService tokenRedisService;
+    private final PrincipalMode principalMode;
+    private final OutcomeTimer filterTimer;
 
     private static final String BEARER_PREFIX = "Bearer ";
 
+    // auth.filter 결과 태그
+    private static final String AUTHENTICATED = "AUTHENTICATED";
+    private static final String NOT_ACCESS_TOKEN = "NOT_ACCESS_TOKEN";
+    private static final String NO_SESSION = "NO_SESSION";
+    private static final String BLACKLISTED = "BLACKLISTED";
+    private static final String INVALID_CLAIMS = "INVALID_CLAIMS";
+    private static final String SKIPPED = "SKIPPED";
+
+    public JwtAuthorizationFilter(
+            JwtProvider jwtProvider,
+            UserDetailsServiceImpl userDetailsService,
+            TokenRedisService tokenRedisService,
+            PrincipalMode principalMode,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtProvider = jwtProvider;
+        this.userDetailsService = userDetailsService;
+        this.tokenRedisService = tokenRedisService;
+        this.principalMode = principalMode;
+        this.filterTimer = new OutcomeTimer(meterRegistry, "auth.filter", "mode", principalMode.name());
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain filterChain
     ) throws ServletException, IOException {
         String token = resolveToken(request);
 
+        // 인증 처리만 측정 (이후 필터/컨트롤러 제외)
         if (StringUtils.hasText(token)) {
-            Claims claims = jwtProvider.validateAndParse(token);
-            String type = claims.get(TOKEN_TYPE, String.class);
-
-            if (!TOKEN_ACCESS.equals(type)) {
-                log.warn("엑세스 토큰이 아님: token_type={}", type);
-                filterChain.doFilter(request, response);
-            }
-
-            // 세션 방식과 유사하기 때문에 인메모리 캐시를 조회하도록 추후 수정
-            if (tokenRedisService.isBlacklisted(token)) {
-                filterChain.doFilter(request, response);
-                return;
-            }
-
-            String username = claims.get(CLAIM_USERNAME, String.class);
-            if (StringUtils.hasText(username) && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetailsImpl userDetails =
-                        (UserDetailsImpl) userDetailsService.loadUserByUsername(username);
-
-                UsernamePasswordAuthenticationToken auth =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities()
-                        );
-                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            }
+            filterTimer.recordOutcome(() -> authenticate(request, token));
         }
 
         filterChain.doFilter(request, response);
@@ -78,12 +80,63 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         return path.equals("/") ||
                 path.startsWith("/v1/auth/") ||
+                path.startsWith("/.well-known/") ||
                 path.startsWith("/swagger") ||
-                path.startsWith("/v3/api-docs");
+                path.startsWith("/v3/api-docs") ||
+                path.startsWith("/actuator/");
     }
 
     // =========================== 유틸 메서드 ===========================
 
+    /**
+     * 토큰 검증 -> 블랙리스트 확인 -> 인증 주체 등록
+     *
+     * @return auth.filter 결과 태그
+     */
+    private String authenticate(HttpServletRequest request, String token) {
+        // 요청당 1회 검증 후 요청 속성으로 전달
+        VerifiedToken verified = jwtProvider.verify(token);
+        request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verified);
+
+        if (!verified.isAccess()) {
+            log.warn("엑세스 토큰이 아님: token_type={}", verified.type());
+            return NOT_ACCESS_TOKEN;
+        }
+
+        // 세션 ID 없는 토큰 (세션 도입 이전 발급) -> 세션 단위 폐기를 확인할 수 없으므로 거부
+        if (verified.sessionId() == null) {
+            log.warn("세션 ID 없는 토큰: userId={}", verified.subject());
+            return NO_SESSION;
+        }
+
+        // 블랙리스트 니어 캐시 조회 (대부분 네트워크 호출 없음)
+        if (tokenRedisService.isBlacklisted(verified)) {
+            return BLACKLISTED;
+        }
+
+        String username = verified.claims().get(CLAIM_USERNAME, String.class);
+        if (!StringUtils.hasText(username) || SecurityContextHolder.getContext().getAuthentication() != null) {
+            return SKIPPED;
+        }
+
+        UserDetails userDetails = principalMode == PrincipalMode.CLAIMS
+                ? ClaimsUserDetails.from(verified.claims())
+                : userDetailsService.loadCachedUser(username);
+        if (userDetails == null) {
+            // 역할 클레임 누락/알 수 없는 값 -> 인증하지 않음 (보호된 경로는 401)
+            log.warn("인가 클레임이 올바르지 않은 토큰: userId={}", verified.subject());
+            return INVALID_CLAIMS;
+        }
+
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities()
+                );
+        auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        return AUTHENTICATED;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
@@ -0,0 +1,74 @@
+package com.sparta.userservice.global.security.jwt.user;
+
+import com.sparta.userservice.domain.UserRole;
+import io.jsonwebtoken.Claims;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static com.sparta.userservice.global.security.jwt.JwtProvider.*;
+
+/**
+ * 엑세스 토큰 클레임 기반 인증 주체 (DB 조회 없이 생성)
+ * - 승인된 회원에게만 토큰이 발급되므로 상태는 APPROVE 로 간주한다.
+ * - 토큰에는 인가에 필요한 값만 있으므로 프로필(이름, 이메일 등)은 UserCache 에서 조회한다.
+ */
+@Getter
+@Builder
+public class ClaimsUserDetails implements UserDetails {
+
+    private final Long userId;
+    private final String username;
+    private final UserRole role;
+    private final UUID hubId;
+    private final UUID vendorId;
+
+    /**
+     * @return 인증 주체 (역할 클레임이 없거나 알 수 없는 값이면 null -> 인증하지 않음)
+     */
+    public static ClaimsUserDetails from(Claims claims) {
+        UserRole role = toRole(claims.get(CLAIM_ROLE, String.class));
+        if (role == null) {
+            return null;
+        }
+
+        return ClaimsUserDetails.builder()
+                .userId(Long.valueOf(claims.getSubject()))
+                .username(claims.get(CLAIM_USERNAME, String.class))
+                .role(role)
+                .hubId(toUuid(claims.get(CLAIM_HUB_ID, String.class)))
+                .vendorId(toUuid(claims.get(CLAIM_VENDOR_ID, String.class)))
+                .build();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    private static UserRole toRole(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UserRole.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static UUID toUuid(String value) {
+        return value == null ? null : UUID.fromString(value);
+    }
+}
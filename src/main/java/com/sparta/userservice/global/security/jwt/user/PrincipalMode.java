@@ -0,0 +1,11 @@
+package com.sparta.userservice.global.security.jwt.user;
+
+/**
+ * 인가 필터의 인증 주체 생성 방식
+ */
+public enum PrincipalMode {
+    // 토큰 클레임으로 생성 (DB 조회 없음)
+    CLAIMS,
+    // 요청마다 DB 에서 회원 조회 (UserDetailsImpl)
+    DATABASE;
+}
@@ -1,6 +1,6 @@
 package com.sparta.userservice.global.security.jwt.user;
 
-import com.sparta.userservice.domain.User;
+import com.sparta.userservice.global.cache.UserSnapshot;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
@@ -10,25 +10,34 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * 회원 스냅샷 기반 인증 주체
+ * - 비밀번호 해시는 로그인(DB 조회) 시에만 채워지고, 캐시에서 만든 인증 주체는 null 이다.
+ */
 @Getter
 @RequiredArgsConstructor
 public class UserDetailsImpl implements UserDetails {
 
-    private final User user;
+    private final UserSnapshot user;
+    private final String password;
+
+    public UserDetailsImpl(UserSnapshot user) {
+        this(user, null);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        return List.of(new SimpleGrantedAuthority("ROLE_" + user.role().name()));
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return user.username();
     }
 
     @Override
@@ -1,6 +1,8 @@
 package com.sparta.userservice.global.security.jwt.user;
 
 import com.sparta.userservice.domain.User;
+import com.sparta.userservice.global.cache.UserCache;
+import com.sparta.userservice.global.cache.UserSnapshot;
 import com.sparta.userservice.global.exception.UserException;
 import com.sparta.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +11,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import static com.sparta.userservice.domain.UserStatus.APPROVE;
 import static com.sparta.userservice.global.response.ErrorCode.*;
@@ -18,18 +21,45 @@ import static com.sparta.userservice.global.response.ErrorCode.*;
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
+    private final UserCache userCache;
     private final UserRepository userRepository;
 
+    /**
+     * 로그인 (AuthenticationManager) - 비밀번호 해시를 포함해 DB 에서 조회
+     * - 비밀번호 변경 직후 레플리카 지연으로 이전 비밀번호가 통하지 않도록 프라이머리에서 읽는다.
+     *   (익명 요청이므로 read-your-writes 기록은 남지 않는다)
+     */
     @Override
+    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserException(USER_NOT_FOUND));
 
-        if (user.getStatus() != APPROVE) {
-            log.error("승인 대기중: status={}", user.getStatus());
+        UserSnapshot snapshot = requireApproved(UserSnapshot.from(user));
+        return new UserDetailsImpl(snapshot, user.getPassword());
+    }
+
+    /**
+     * 인가 필터 (principal-mode: DATABASE) - 회원 캐시에서 조회 (비밀번호 없음)
+     */
+    public UserDetails loadCachedUser(String username) {
+        UserSnapshot user = userCache.findByUsername(username)
+                .orElseThrow(() -> new UserException(USER_NOT_FOUND));
+
+        return new UserDetailsImpl(requireApproved(user));
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private UserSnapshot requireApproved(UserSnapshot user) {
+        if (user.deleted()) {
+            log.error("삭제된 회원: userId={}", user.userId());
+            throw new UserException(USER_NOT_FOUND);
+        }
+        if (user.status() != APPROVE) {
+            log.error("승인 대기중: status={}", user.status());
             throw new UserException(USER_PENDING_APPROVAL);
         }
-
-        return new UserDetailsImpl(user);
+        return user;
     }
 }
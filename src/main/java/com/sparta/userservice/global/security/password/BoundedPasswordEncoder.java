@@ -0,0 +1,251 @@
+package com.sparta.userservice.global.security.password;
+
+import com.sparta.userservice.global.exception.UserException;
+import com.sparta.userservice.global.jfr.PasswordHashEvent;
+import com.sparta.userservice.global.metrics.OutcomeTimer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.sparta.userservice.global.response.ErrorCode.USER_PASSWORD_HASHING_BUSY;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀 (BCrypt 가 요청 스레드의 CPU 를 독점하지 않도록 제한)
+ * - 풀 크기와 대기열 크기를 넘으면 즉시 USER_PASSWORD_HASHING_BUSY 로 거절한다.
+ * - 요청 스레드는 timeout 까지만 기다린다. 시간 초과된 작업은 대기열에서 제거하고,
+ *   대기열에서 timeout 을 넘긴 작업은 실행하지 않고 버린다. (기다리는 요청이 없는 해시로 풀을 채우지 않음)
+ * - 이미 실행 중인 BCrypt 는 인터럽트를 확인하지 않으므로 취소해도 끝까지 실행된다.
+ *   (해시 1회 시간만큼 스레드를 더 점유하므로 timeout 은 해시 시간의 수 배 정도로 짧게 둔다)
+ * - 일괄 해시(encodeAll)는 bulkConcurrency 개까지만 동시에 실행해 나머지 스레드를 로그인 요청에 남겨 둔다.
+ * - 대기열 길이, 대기 시간, 거절 횟수를 집계한다. (password.hashing.* 메트릭)
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String ENCODE = "encode";
+    private static final String MATCHES = "matches";
+    private static final String MATCH = "MATCH";
+    private static final String MISMATCH = "MISMATCH";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final int bulkConcurrency;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0);
+
+    // password.hashing (대기 시간 포함), password.hashing.wait (대기 시간만)
+    private final OutcomeTimer encodeTimer;
+    private final OutcomeTimer matchesTimer;
+    private final Timer waitTimer;
+
+    /**
+     * @param bulkConcurrency 일괄 해시 동시 실행 수 (0 이하면 풀 크기의 절반, 최소 1)
+     */
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate, int poolSize, int queueCapacity, Duration timeout, int bulkConcurrency,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.bulkConcurrency = bulkConcurrency > 0 ? Math.min(bulkConcurrency, poolSize) : Math.max(1, poolSize / 2);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = new OutcomeTimer(meterRegistry, "password.hashing", "operation", ENCODE);
+        this.matchesTimer = new OutcomeTimer(meterRegistry, "password.hashing", "operation", MATCHES);
+        this.waitTimer = Timer.builder("password.hashing.wait").register(meterRegistry);
+        Gauge.builder("password.hashing.queue", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        FunctionCounter.builder("password.hashing.rejected", rejected, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("password.hashing.expired", expired, LongAdder::sum).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> execute(ENCODE, () -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        String outcome = matchesTimer.recordOutcome(() ->
+                execute(MATCHES, () -> delegate.matches(rawPassword, encodedPassword)) ? MATCH : MISMATCH
+        );
+        return MATCH.equals(outcome);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 일괄 해시 (대량 등록용)
+     * - 동시에 제출하는 작업을 bulkConcurrency 로 제한해 스레드와 대기열을 로그인 요청에 남겨 둔다.
+     * - 제출 거절, 시간 초과 등으로 실패하면 이미 제출한 작업을 모두 취소한다.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        Semaphore window = new Semaphore(bulkConcurrency);
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        boolean done = false;
+
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                window.acquire();
+                futures.add(submit(ENCODE, false, () -> {
+                    try {
+                        return delegate.encode(rawPassword);
+                    } finally {
+                        window.release();
+                    }
+                }));
+            }
+
+            List<String> encoded = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                encoded.add(await(future));
+            }
+            done = true;
+            return encoded;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UserException(USER_PASSWORD_HASHING_BUSY);
+        } finally {
+            if (!done) {
+                futures.forEach(this::cancel);
+            }
+        }
+    }
+
+    public Stats stats() {
+        long count = completed.sum();
+        return new Stats(
+                executor.getQueue().size(),
+                executor.getActiveCount(),
+                count,
+                rejected.sum(),
+                count == 0 ? 0 : totalWaitNanos.sum() / count,
+                maxWaitNanos.get()
+        );
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private <T> T execute(String operation, Callable<T> task) {
+        return await(submit(operation, true, task));
+    }
+
+    /**
+     * @param expires 대기열에서 timeout 을 넘기면 실행하지 않음 (요청 1건 단위 작업,
+     *                일괄 해시는 호출 스레드가 모든 결과를 기다리고 동시 제출 수도 제한하므로 제외)
+     */
+    private <T> Future<T> submit(String operation, boolean expires, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+
+        try {
+            return executor.submit(() -> {
+                long waited = System.nanoTime() - submittedAt;
+                totalWaitNanos.add(waited);
+                maxWaitNanos.accumulate(waited);
+                waitTimer.record(waited, TimeUnit.NANOSECONDS);
+
+                // 요청 스레드가 이미 시간 초과로 돌아간 작업 (취소 직전에 꺼내진 경우 포함)
+                if (expires && waited >= timeout.toNanos()) {
+                    expired.increment();
+                    throw new CancellationException("queue wait exceeded timeout");
+                }
+
+                PasswordHashEvent event = PasswordHashEvent.start(operation, waited);
+                boolean success = false;
+                try {
+                    T result = task.call();
+                    success = true;
+                    return result;
+                } finally {
+                    event.finish(success);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 대기열 초과: queue={}", executor.getQueue().size());
+            throw new UserException(USER_PASSWORD_HASHING_BUSY);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            T result = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            completed.increment();
+            return result;
+        } catch (TimeoutException e) {
+            cancel(future);
+            rejected.increment();
+            log.warn("비밀번호 해시 대기 시간 초과: timeout={}", timeout);
+            throw new UserException(USER_PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            cancel(future);
+            Thread.currentThread().interrupt();
+            throw new UserException(USER_PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CancellationException) {
+                rejected.increment();
+                throw new UserException(USER_PASSWORD_HASHING_BUSY);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 취소 + 대기열에서 제거 (실행 중인 BCrypt 는 중단되지 않음)
+     */
+    private void cancel(Future<?> future) {
+        future.cancel(false);
+        if (future instanceof Runnable task) {
+            executor.remove(task);
+        }
+    }
+
+    /**
+     * @param queueDepth  대기 중인 작업 수
+     * @param active      실행 중인 작업 수
+     * @param completed   완료된 작업 수
+     * @param rejected    거절(대기열 초과, 시간 초과)된 작업 수
+     * @param avgWaitNanos 평균 대기 시간
+     * @param maxWaitNanos 최대 대기 시간
+     */
+    public record Stats(int queueDepth, int active, long completed, long rejected, long avgWaitNanos, long maxWaitNanos) {
+    }
+}
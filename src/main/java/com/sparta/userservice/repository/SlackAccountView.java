@@ -0,0 +1,11 @@
+package com.sparta.userservice.repository;
+
+/**
+ * 슬랙 계정 프로젝션 (userId, slackAccountId 두 컬럼만 조회)
+ */
+public interface SlackAccountView {
+
+    Long getUserId();
+
+    String getSlackAccountId();
+}
@@ -0,0 +1,142 @@
+package com.sparta.userservice.repository;
+
+import com.sparta.userservice.domain.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 회원 대량 등록 (JDBC)
+ * - 청크 단위로 unnest 배열을 넘겨 INSERT 1회로 저장한다.
+ * - 중복(아이디/이메일)은 ON CONFLICT DO NOTHING 으로 건너뛰고, 저장된 userId 만 돌려준다.
+ * - ID 는 UserIdGenerator 와 같은 pooled 방식으로 p_users_seq 에서 할당한다.
+ */
+@Repository
+public class UserBulkInsertRepository {
+
+    private static final String NEXT_IDS = "SELECT nextval('p_users_seq') FROM generate_series(1, ?)";
+
+    private static final String INSERT_ALL = """
+            INSERT INTO p_users (user_id, username, password, name, email, role, status, slack_account_id,
+                                 hub_id, vendor_id, is_delivery_manager, version,
+                                 created_at, created_by, updated_at, updated_by)
+            SELECT r.user_id, r.username, r.password, r.name, r.email, r.role, 'APPROVE', r.slack_account_id,
+                   r.hub_id, r.vendor_id, r.is_delivery_manager, 0,
+                   localtimestamp, ?, localtimestamp, ?
+            FROM unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[],
+                        ?::varchar[], ?::uuid[], ?::uuid[], ?::boolean[])
+                     AS r(user_id, username, password, name, email, role, slack_account_id,
+                          hub_id, vendor_id, is_delivery_manager)
+            ON CONFLICT DO NOTHING
+            RETURNING user_id
+            """;
+
+    private static final String FIND_USERNAMES = "SELECT username FROM p_users WHERE username = ANY(?::varchar[])";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int allocationSize;
+
+    public UserBulkInsertRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.id.user.increment_size:50}") int allocationSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.allocationSize = allocationSize;
+    }
+
+    /**
+     * 일괄 저장 (users 와 같은 순서로 userId 를 채워 돌려주고, 저장되지 않은 행은 null)
+     */
+    public List<Long> insertAll(List<User> users, String createdBy) {
+        List<Long> ids = nextIds(users.size());
+
+        Set<Long> inserted = jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_ALL)) {
+                int index = 1;
+                statement.setString(index++, createdBy);
+                statement.setString(index++, createdBy);
+                statement.setArray(index++, connection.createArrayOf("bigint", ids.toArray()));
+                statement.setArray(index++, array(connection, "varchar", users, User::getUsername));
+                statement.setArray(index++, array(connection, "varchar", users, User::getPassword));
+                statement.setArray(index++, array(connection, "varchar", users, User::getName));
+                statement.setArray(index++, array(connection, "varchar", users, User::getEmail));
+                statement.setArray(index++, array(connection, "varchar", users, user -> user.getRole().name()));
+                statement.setArray(index++, array(connection, "varchar", users, User::getSlackAccountId));
+                statement.setArray(index++, array(connection, "uuid", users, User::getHubId));
+                statement.setArray(index++, array(connection, "uuid", users, User::getVendorId));
+                statement.setArray(index, array(connection, "boolean", users, User::getIsDeliveryManager));
+
+                Set<Long> result = new HashSet<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        result.add(rs.getLong(1));
+                    }
+                }
+                return result;
+            }
+        });
+
+        List<Long> userIds = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            userIds.add(inserted.contains(id) ? id : null);
+        }
+        return userIds;
+    }
+
+    /**
+     * 이미 존재하는 아이디 조회 (중복 사유 구분용)
+     */
+    public Set<String> findExistingUsernames(List<String> usernames) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement(FIND_USERNAMES)) {
+                statement.setArray(1, connection.createArrayOf("varchar", usernames.toArray()));
+
+                Set<String> result = new HashSet<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        result.add(rs.getString(1));
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    /**
+     * pooled 옵티마이저와 같은 규칙으로 ID 할당 (시퀀스 값 hi -> hi - allocationSize + 1 ~ hi)
+     */
+    private List<Long> nextIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + allocationSize - 1) / allocationSize;
+            for (Long hi : jdbcTemplate.queryForList(NEXT_IDS, Long.class, blocks)) {
+                for (long id = Math.max(1, hi - allocationSize + 1); id <= hi && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static Array array(Connection connection, String type, List<User> users,
+                               Function<User, Object> column) throws SQLException {
+        Object[] values = new Object[users.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = column.apply(users.get(i));
+        }
+        return connection.createArrayOf(type, values);
+    }
+}
@@ -0,0 +1,96 @@
+package com.sparta.userservice.repository;
+
+import com.sparta.userservice.domain.UserRole;
+import com.sparta.userservice.domain.UserStatus;
+import com.sparta.userservice.global.cache.UserSnapshot;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 회원 상태 일괄 변경 (JDBC)
+ * - 엔티티를 읽지 않고 청크 단위 UPDATE 1회로 변경한다. (청크마다 커밋)
+ * - 이미 같은 상태인 회원은 갱신하지 않는다. (version 유지)
+ */
+@Repository
+public class UserBulkUpdateRepository {
+
+    /*
+     * target : 요청 ID
+     * upd    : 상태가 다른 회원만 변경, 탈퇴 회원 제외 (RETURNING 으로 변경된 회원의 스냅샷 컬럼)
+     * 결과   : 존재하는(탈퇴하지 않은) 회원 전체 + 변경된 경우 새 스냅샷 (캐시 갱신용, version 포함)
+     */
+    private static final String UPDATE_STATUS = """
+            WITH target AS (
+                SELECT unnest(?::bigint[]) AS user_id
+            ), upd AS (
+                UPDATE p_users u
+                SET status = ?, version = coalesce(u.version, 0) + 1, updated_at = localtimestamp, updated_by = ?
+                WHERE u.user_id IN (SELECT user_id FROM target) AND u.status <> ? AND u.deleted_at IS NULL
+                RETURNING u.user_id, u.username, u.name, u.email, u.role, u.status, u.slack_account_id,
+                    u.hub_id, u.vendor_id, u.is_delivery_manager, u.deleted_at IS NOT NULL AS deleted, u.version
+            )
+            SELECT p.user_id, upd.username, upd.name, upd.email, upd.role, upd.status, upd.slack_account_id,
+                   upd.hub_id, upd.vendor_id, upd.is_delivery_manager, upd.deleted, upd.version
+            FROM target t
+                     JOIN p_users p ON p.user_id = t.user_id AND p.deleted_at IS NULL
+                     LEFT JOIN upd ON upd.user_id = t.user_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserBulkUpdateRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 상태 변경
+     *
+     * @return 존재하는(탈퇴하지 않은) 회원 userId -> 변경된 경우 새 스냅샷, 이미 같은 상태면 null (탈퇴 회원은 없는 회원으로 본다)
+     */
+    public Map<Long, UserSnapshot> updateStatus(List<Long> userIds, UserStatus status, String updatedBy) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_STATUS)) {
+                statement.setArray(1, connection.createArrayOf("bigint", userIds.toArray()));
+                statement.setString(2, status.name());
+                statement.setString(3, updatedBy);
+                statement.setString(4, status.name());
+
+                Map<Long, UserSnapshot> result = new HashMap<>(userIds.size() * 2);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        result.put(rs.getLong(1), rs.getString(2) == null ? null : snapshot(rs));
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private static UserSnapshot snapshot(ResultSet rs) throws SQLException {
+        return new UserSnapshot(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                UserRole.valueOf(rs.getString(5)),
+                UserStatus.valueOf(rs.getString(6)),
+                rs.getString(7),
+                rs.getObject(8, UUID.class),
+                rs.getObject(9, UUID.class),
+                rs.getObject(10, Boolean.class),
+                rs.getBoolean(11),
+                rs.getLong(12)
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.sparta.userservice.repository;
+
+import com.sparta.userservice.dto.request.SearchUsersReqDto;
+import com.sparta.userservice.dto.response.UserSummaryResDto;
+
+import java.util.List;
+
+public interface UserQueryRepository {
+
+    /**
+     * 회원 목록 키셋 조회 (userId 내림차순, 다음 페이지 확인용으로 size + 1 건)
+     */
+    List<UserSummaryResDto> searchUsers(SearchUsersReqDto condition);
+}
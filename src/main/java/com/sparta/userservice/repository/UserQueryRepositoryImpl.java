@@ -0,0 +1,75 @@
+package com.sparta.userservice.repository;
+
+import com.sparta.userservice.domain.User;
+import com.sparta.userservice.dto.request.SearchUsersReqDto;
+import com.sparta.userservice.dto.response.UserSummaryResDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 목록 조회 (Criteria)
+ * - 생성자 프로젝션으로 필요한 컬럼만 조회한다. (영속성 컨텍스트에 엔티티가 쌓이지 않음)
+ * - OFFSET 대신 user_id < cursor 조건을 사용해 페이지 위치와 무관하게 인덱스 범위 탐색 1회로 끝난다.
+ *   필터별 부분 인덱스(deleted_at IS NULL)는 db/migration 참고.
+ */
+@RequiredArgsConstructor
+public class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    private final EntityManager em;
+
+    @Override
+    public List<UserSummaryResDto> searchUsers(SearchUsersReqDto condition) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<UserSummaryResDto> query = cb.createQuery(UserSummaryResDto.class);
+        Root<User> user = query.from(User.class);
+
+        query.select(cb.construct(
+                UserSummaryResDto.class,
+                user.get("userId"),
+                user.get("username"),
+                user.get("name"),
+                user.get("email"),
+                user.get("role"),
+                user.get("status"),
+                user.get("hubId"),
+                user.get("vendorId"),
+                user.get("isDeliveryManager")
+        ));
+
+        // 삭제된 회원 제외 (부분 인덱스 조건과 같아야 인덱스를 사용한다.)
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isNull(user.get("deletedAt")));
+        if (condition.getStatus() != null) {
+            predicates.add(cb.equal(user.get("status"), condition.getStatus()));
+        }
+        if (condition.getRole() != null) {
+            predicates.add(cb.equal(user.get("role"), condition.getRole()));
+        }
+        if (condition.getHubId() != null) {
+            predicates.add(cb.equal(user.get("hubId"), condition.getHubId()));
+        }
+        if (condition.getVendorId() != null) {
+            predicates.add(cb.equal(user.get("vendorId"), condition.getVendorId()));
+        }
+        if (condition.getIsDeliveryManager() != null) {
+            predicates.add(cb.equal(user.get("isDeliveryManager"), condition.getIsDeliveryManager()));
+        }
+        if (condition.getCursor() != null) {
+            predicates.add(cb.lessThan(user.get("userId"), condition.getCursor()));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(user.get("userId")));
+
+        return em.createQuery(query)
+                .setMaxResults(condition.size() + 1)
+                .getResultList();
+    }
+}
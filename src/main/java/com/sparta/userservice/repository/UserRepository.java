@@ -2,17 +2,22 @@ package com.sparta.userservice.repository;
 
 import com.sparta.userservice.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserQueryRepository {
     Optional<User> findByUsername(String username);
 
-    boolean existsByUsername(String username);
+    // lower(email) 유니크 인덱스 사용 (대소문자 무시)
+    @Query("SELECT u FROM User u WHERE lower(u.email) = lower(:email)")
+    Optional<User> findUserByEmail(@Param("email") String email);
 
-    boolean existsByEmail(String email);
-
-    Optional<User> findUserByEmail(String email);
+    // 슬랙 계정 일괄 조회 (엔티티 대신 두 컬럼만)
+    List<SlackAccountView> findSlackAccountsByUserIdIn(Collection<? extends Long> userIds);
 }
@@ -6,12 +6,15 @@ import com.sparta.userservice.dto.request.FindPwReqDto;
 import com.sparta.userservice.dto.request.SignUpReqDto;
 import com.sparta.userservice.dto.response.FindIdResDto;
 import com.sparta.userservice.dto.response.FindPwResDto;
+import com.sparta.userservice.global.exception.UserConstraintTranslator;
 import com.sparta.userservice.global.exception.UserException;
 import com.sparta.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
@@ -31,25 +34,21 @@ public class AuthService {
 
     /**
      * 회원가입 요청
+     * - 아이디/이메일 중복은 INSERT 시 유니크 제약으로 판단한다. (조회 없이 1회 왕복)
+     * - 비밀번호 해시 중에는 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 저장만 리포지토리 트랜잭션으로 처리한다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void signUp(SignUpReqDto requestDto) {
-        // 1. 아이디 중복 확인
         String username = requestDto.getUsername().trim();
-        validateUniqueUsername(username);
-
-        // 2. 이메일 중복 확인
         String email = requestDto.getEmail().trim().toLowerCase();
-        validateUniqueEmail(email);
 
-        // 3. 비밀번호 일치 여부 확인
+        // 1. 비밀번호 일치 여부 확인
         if (!requestDto.getPassword().equals(requestDto.getConfirmPassword())) {
             log.error("비밀번호가 일치하지 않음");
             throw new UserException(USER_PASSWORD_MISMATCH);
         }
 
-        // 영속성 컨텍스트 저장
-        User user = userRepository.save(User.builder()
+        User user = User.builder()
                 .username(username)
                 .password(passwordEncoder.encode(requestDto.getPassword()))
                 .name(requestDto.getName())
@@ -57,10 +56,10 @@ public class AuthService {
                 .role(requestDto.getRole())
                 .status(PENDING)
                 .slackAccountId(requestDto.getSlackAccountId())
-                .build()
-        );
+                .isDeliveryManager(false)
+                .build();
 
-        // 4. 권한 확인 (더티 체킹)
+        // 2. 권한 확인 (저장 전에 소속 지정)
         UUID hubId = requestDto.getHubId();
         UUID vendorId = requestDto.getVendorId();
         switch (user.getRole()) {
@@ -70,7 +69,7 @@ public class AuthService {
             }
             case VENDOR_MANAGER -> {
                 validateVendorId(requestDto);
-                user.assignHubId(vendorId);
+                user.assignVendorId(vendorId);
             }
             case DELIVERY_MANAGER -> {
                 validateHubId(requestDto);
@@ -78,6 +77,14 @@ public class AuthService {
                 user.assignAsDeliveryManager();
             }
         }
+
+        // 3. 저장 (아이디/이메일 중복 확인)
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            log.error("중복 회원 가입 시도: username={}", username);
+            throw UserConstraintTranslator.translate(e);
+        }
     }
 
     public FindIdResDto findId(FindIdReqDto requestDto) {
@@ -121,18 +128,6 @@ public class AuthService {
 
 // =============================== 유틸 메서드 ===============================
 
-    private void validateUniqueUsername(String username) {
-        if (userRepository.existsByUsername(username)) {
-            throw new UserException(USER_DUPLICATED_USERNAME);
-        }
-    }
-
-    private void validateUniqueEmail(String email) {
-        if (userRepository.existsByEmail(email)) {
-            throw new UserException(USER_DUPLICATED_EMAIL);
-        }
-    }
-
     private void validateHubId(SignUpReqDto requestDto) {
         if (requestDto.getHubId() == null) {
             log.error("허브 아이디 누락");
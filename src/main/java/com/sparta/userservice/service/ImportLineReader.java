@@ -0,0 +1,110 @@
+package com.sparta.userservice.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 등록 본문 줄 단위 읽기 (CSV / NDJSON)
+ * - 줄 길이를 maxLength 로 제한한다. 초과한 줄은 끝까지 읽어 버리고 overflowed() 로 알린다.
+ *   (줄바꿈 없는 큰 본문이 메모리에 통째로 올라가지 않도록)
+ * - 줄바꿈은 \n, \r\n, \r 모두 인식한다.
+ */
+final class ImportLineReader {
+
+    private final Reader reader;
+    private final int maxLength;
+    private final StringBuilder line;
+    private boolean overflowed;
+    private int pushedBack = -1;
+
+    ImportLineReader(Reader reader, int maxLength) {
+        this.reader = reader;
+        this.maxLength = maxLength;
+        this.line = new StringBuilder(Math.min(maxLength, 256));
+    }
+
+    /**
+     * 다음 줄 (본문 끝이면 null, 길이 초과면 앞부분 maxLength 글자)
+     */
+    String readLine() throws IOException {
+        line.setLength(0);
+        overflowed = false;
+
+        int c = next();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1 && c != '\n' && c != '\r') {
+            if (line.length() < maxLength) {
+                line.append((char) c);
+            } else {
+                overflowed = true;
+            }
+            c = next();
+        }
+        if (c == '\r') {
+            int following = next();
+            if (following != '\n') {
+                pushedBack = following;
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * 마지막으로 읽은 줄이 maxLength 를 넘었는지
+     */
+    boolean overflowed() {
+        return overflowed;
+    }
+
+    /**
+     * CSV 한 줄 분리 (큰따옴표 감싸기, "" 이스케이프 지원 / 필드 내 줄바꿈은 미지원)
+     *
+     * @throws IllegalArgumentException 닫히지 않은 큰따옴표
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quote");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private int next() throws IOException {
+        if (pushedBack != -1) {
+            int c = pushedBack;
+            pushedBack = -1;
+            return c;
+        }
+        return reader.read();
+    }
+}
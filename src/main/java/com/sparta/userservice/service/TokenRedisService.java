@@ -1,82 +1,446 @@
 package com.sparta.userservice.service;
 
+import com.sparta.userservice.global.cache.BlacklistNearCache;
+import com.sparta.userservice.global.exception.UserException;
+import com.sparta.userservice.global.jfr.RedisCallEvent;
+import com.sparta.userservice.global.metrics.OutcomeTimer;
 import com.sparta.userservice.global.security.jwt.JwtProvider;
-import io.jsonwebtoken.Claims;
-import lombok.RequiredArgsConstructor;
+import com.sparta.userservice.global.security.jwt.VerifiedToken;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.time.Instant;
-import java.util.Date;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
+import static com.sparta.userservice.global.response.ErrorCode.USER_TOKEN_STORE_UNAVAILABLE;
+
+/**
+ * 세션/토큰 Redis 저장소 (모든 쓰기는 Lua 스크립트 1회 왕복)
+ * - sessions:{userId}     : 해시 sid -> "리프레시 토큰 다이제스트|발급 시각|기기" (sid 로 O(1) 조회/폐기)
+ * - sessions:lru:{userId} : 정렬 집합 sid -> 마지막 사용 시각 (최대 세션 수 초과 시 LRU 폐기)
+ * - blacklist:{userId}:{sid} : 폐기된 세션의 엑세스 토큰 (엑세스 유효 기간 동안 유지)
+ * 세션 수가 작아 해시/정렬 집합 모두 listpack 인코딩으로 저장된다.
+ * <p>
+ * Redis 장애 (서킷 브레이커 열림, 타임아웃) 시
+ * - 블랙리스트 확인: 이 인스턴스의 폐기 기록으로 판단하고, 모르는 토큰은 정책(FAIL_OPEN/FAIL_CLOSED)에 따른다.
+ * - 세션 생성/폐기: 로컬에 보류했다가 복구 후 순서대로 반영한다. (FAIL_CLOSED 면 로그인은 거절)
+ *   sid 를 알 수 없는 전체 폐기는 회원 단위로 "폐기 시각 이전 발급 토큰"을 로컬에서 거부한다.
+ * - 재발급/세션 목록: CAS/조회 결과를 대신할 수 없으므로 503 으로 거절한다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenRedisService {
 
     private final StringRedisTemplate redis;
+    private final BlacklistNearCache blacklistNearCache;
     private final JwtProvider jwtProvider;
+    private final int maxSessions;
+    private final CircuitBreaker circuitBreaker;
+    private final FailurePolicy failurePolicy;
+
+    // Redis 장애 중 보류된 쓰기 (복구 후 순서대로 반영)
+    private final BlockingQueue<PendingWrite> pendingWrites;
+    private final Counter droppedWrites;
+    private final Map<String, Counter> degradedCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
 
-    private static final String KEY_REFRESH = "refresh:";
+    // token.redis (operation 태그, is_blacklisted 는 니어 캐시 포함 / blacklist_lookup 은 Redis 조회만)
+    private final OutcomeTimer createSessionTimer;
+    private final OutcomeTimer rotateRefreshTimer;
+    private final OutcomeTimer revokeSessionsTimer;
+    private final OutcomeTimer listSessionsTimer;
+    private final OutcomeTimer isBlacklistedTimer;
+    private final OutcomeTimer blacklistLookupTimer;
+    private final OutcomeTimer reconcileTimer;
+
+    private static final String KEY_SESSIONS = "sessions:";
+    private static final String KEY_SESSIONS_LRU = "sessions:lru:";
     private static final String KEY_BLACKLIST = "blacklist:";
+    private static final String SESSION_SEPARATOR = "|";
+
+    public static final String CHANNEL_BLACKLIST = "blacklist-events";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CREATE_SESSION =
+            RedisScript.of(new ClassPathResource("redis/session-create.lua"), List.class);
+    private static final RedisScript<Long> ROTATE_REFRESH =
+            RedisScript.of(new ClassPathResource("redis/session-rotate.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REVOKE_SESSIONS =
+            RedisScript.of(new ClassPathResource("redis/session-revoke.lua"), List.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LIST_SESSIONS =
+            RedisScript.of(new ClassPathResource("redis/session-list.lua"), List.class);
+
+    private static final String OP_CREATE_SESSION = "create_session";
+    private static final String OP_ROTATE_REFRESH = "rotate_refresh";
+    private static final String OP_REVOKE_SESSIONS = "revoke_sessions";
+    private static final String OP_LIST_SESSIONS = "list_sessions";
+    private static final String OP_IS_BLACKLISTED = "is_blacklisted";
+    private static final String OP_BLACKLIST_LOOKUP = "blacklist_lookup";
+    private static final String OP_RECONCILE = "reconcile";
+
+    public TokenRedisService(
+            StringRedisTemplate redis,
+            BlacklistNearCache blacklistNearCache,
+            JwtProvider jwtProvider,
+            @Value("${session.max-per-user:5}") int maxSessions,
+            CircuitBreaker redisCircuitBreaker,
+            @Value("${token-redis.failure-policy:FAIL_OPEN}") FailurePolicy failurePolicy,
+            @Value("${token-redis.pending-writes.capacity:10000}") int pendingWritesCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        this.redis = redis;
+        this.blacklistNearCache = blacklistNearCache;
+        this.jwtProvider = jwtProvider;
+        this.maxSessions = maxSessions;
+        this.circuitBreaker = redisCircuitBreaker;
+        this.failurePolicy = failurePolicy;
+        this.pendingWrites = new LinkedBlockingQueue<>(pendingWritesCapacity);
+        this.meterRegistry = meterRegistry;
+        this.droppedWrites = meterRegistry.counter("token.redis.pending_writes.dropped");
+        Gauge.builder("token.redis.pending_writes", pendingWrites, Collection::size).register(meterRegistry);
+        this.createSessionTimer = timer(meterRegistry, OP_CREATE_SESSION);
+        this.rotateRefreshTimer = timer(meterRegistry, OP_ROTATE_REFRESH);
+        this.revokeSessionsTimer = timer(meterRegistry, OP_REVOKE_SESSIONS);
+        this.listSessionsTimer = timer(meterRegistry, OP_LIST_SESSIONS);
+        this.isBlacklistedTimer = timer(meterRegistry, OP_IS_BLACKLISTED);
+        this.blacklistLookupTimer = timer(meterRegistry, OP_BLACKLIST_LOOKUP);
+        this.reconcileTimer = timer(meterRegistry, OP_RECONCILE);
+    }
 
-    // ============================== 리프레시 토큰 관리 ==============================
+    // ============================== 세션 관리 ==============================
 
     /**
-     * 리프레시 토큰 저장
+     * 세션 생성 (로그인)
+     * - 최대 세션 수를 넘으면 가장 오래 사용하지 않은 세션을 폐기한다. (해당 기기의 엑세스 토큰도 블랙리스트 등록)
+     * - 방금 발급한 토큰이므로 다시 파싱하지 않고 유효 기간을 TTL 로 쓴다.
+     *
+     * @return 밀려난 sid 목록
      */
-    public void saveRefresh(String refresh) {
-        Claims claims = jwtProvider.validateAndParse(refresh);
-        String userId = claims.getSubject();
-        long ttlSeconds = secondsUntilExpiration(claims.getExpiration());
+    public List<String> createSession(String userId, String sessionId, String refresh, String device) {
+        // 보류 후 다시 실행해도 같은 값이 되도록 인자를 미리 계산
+        Object[] args = {
+                sessionId, sessionValue(refresh, device), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(maxSessions), String.valueOf(jwtProvider.getRefreshTokenValidity().toMillis()),
+                KEY_BLACKLIST + userId + ":", blacklistTtl(), CHANNEL_BLACKLIST, userId + ":"
+        };
+        Supplier<List<?>> write = () -> redis.execute(CREATE_SESSION, sessionKeys(userId), args);
 
-        redis.opsForValue().set(KEY_REFRESH + userId, refresh, Duration.ofSeconds(ttlSeconds));
+        List<String> evicted;
+        try {
+            evicted = strings(call(createSessionTimer, OP_CREATE_SESSION, write));
+        } catch (CallNotPermittedException | DataAccessException e) {
+            degraded(OP_CREATE_SESSION, e);
+            if (failurePolicy == FailurePolicy.FAIL_CLOSED) {
+                throw new UserException(USER_TOKEN_STORE_UNAVAILABLE);
+            }
+            // 밀려날 세션은 복구 후 반영 시점에 정해진다.
+            buffer(OP_CREATE_SESSION, write);
+            return List.of();
+        }
+        markRevoked(userId, evicted);
+        return evicted;
     }
 
     /**
-     * 리프레시 토큰 조회
+     * 리프레시 토큰 교체 (세션 단위 compare-and-swap)
+     * - 저장된 다이제스트가 presented 와 같을 때만 next 로 바꾼다. (presented 다이제스트는 검증 시 계산된 값 재사용)
+     * - 다르면 이미 교체된 이전 토큰이 다시 사용된 것이므로 해당 세션을 폐기한다. (다른 기기 세션은 유지)
      */
-    public Optional<String> getRefresh(String userId) {
-        return Optional.ofNullable(redis.opsForValue().get(KEY_REFRESH + userId));
+    public RotateResult rotateRefresh(VerifiedToken presented, String next) {
+        String userId = presented.subject();
+        String sessionId = presented.sessionId();
+
+        Long result;
+        try {
+            result = call(rotateRefreshTimer, OP_ROTATE_REFRESH, () -> redis.execute(
+                    ROTATE_REFRESH,
+                    sessionKeys(userId),
+                    sessionId, presented.digest(), JwtProvider.digest(next), epochSecond(),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(jwtProvider.getRefreshTokenValidity().toMillis()),
+                    KEY_BLACKLIST + blacklistKey(userId, sessionId), blacklistTtl(), CHANNEL_BLACKLIST, blacklistKey(userId, sessionId)
+            ));
+        } catch (CallNotPermittedException | DataAccessException e) {
+            // 재사용 탐지(CAS) 없이 교체할 수 없으므로 거절
+            degraded(OP_ROTATE_REFRESH, e);
+            throw new UserException(USER_TOKEN_STORE_UNAVAILABLE);
+        }
+
+        RotateResult rotateResult = RotateResult.of(result);
+        if (rotateResult == RotateResult.REUSED) {
+            blacklistNearCache.markRevoked(blacklistKey(userId, sessionId));
+        }
+        return rotateResult;
+    }
+
+    /**
+     * 세션 폐기 (로그아웃 / 기기별 로그아웃 / 전체 로그아웃)
+     * - 세션 삭제 + 엑세스 토큰 블랙리스트 등록 + 다른 인스턴스 니어 캐시에 전파
+     *
+     * @param sessionIds 폐기할 sid (비어 있으면 전체)
+     * @return 실제로 폐기된 sid 목록 (Redis 장애 시 요청한 sid, 복구 후 반영)
+     */
+    public List<String> revokeSessions(String userId, List<String> sessionIds) {
+        List<String> args = new ArrayList<>(4 + sessionIds.size());
+        args.add(KEY_BLACKLIST + userId + ":");
+        args.add(blacklistTtl());
+        args.add(CHANNEL_BLACKLIST);
+        args.add(userId + ":");
+        args.addAll(sessionIds);
+
+        Supplier<List<?>> write = () -> redis.execute(REVOKE_SESSIONS, sessionKeys(userId), args.toArray());
+
+        List<String> revoked;
+        try {
+            revoked = strings(call(revokeSessionsTimer, OP_REVOKE_SESSIONS, write));
+        } catch (CallNotPermittedException | DataAccessException e) {
+            // 폐기는 유실되면 안 되므로 정책과 무관하게 보류
+            degraded(OP_REVOKE_SESSIONS, e);
+            buffer(OP_REVOKE_SESSIONS, write);
+            if (sessionIds.isEmpty()) {
+                // 전체 폐기는 sid 를 알 수 없으므로 지금까지 발급된 이 회원의 토큰을 로컬에서 거부
+                blacklistNearCache.markUserRevoked(userId, Instant.now());
+            }
+            revoked = sessionIds;
+        }
+
+        // 자기 인스턴스는 pub/sub 수신 전에 바로 반영
+        markRevoked(userId, revoked);
+        return revoked;
     }
 
     /**
-     * 리프래시 토큰 삭제
+     * 세션 목록 (최근 사용 순)
      */
-    public void deleteRefresh(String userId) {
-        redis.delete(KEY_REFRESH + userId);
+    public List<StoredSession> listSessions(String userId) {
+        List<String> rows;
+        try {
+            rows = strings(call(listSessionsTimer, OP_LIST_SESSIONS, () -> redis.execute(LIST_SESSIONS, sessionKeys(userId))));
+        } catch (CallNotPermittedException | DataAccessException e) {
+            degraded(OP_LIST_SESSIONS, e);
+            throw new UserException(USER_TOKEN_STORE_UNAVAILABLE);
+        }
+
+        List<StoredSession> sessions = new ArrayList<>(rows.size() / 3);
+        for (int i = 0; i + 2 < rows.size(); i += 3) {
+            // 값: 다이제스트|발급 시각|기기
+            String[] value = rows.get(i + 1).split(Pattern.quote(SESSION_SEPARATOR), 3);
+            sessions.add(new StoredSession(
+                    rows.get(i),
+                    Instant.ofEpochSecond(Long.parseLong(value[1])),
+                    Instant.ofEpochMilli((long) Double.parseDouble(rows.get(i + 2))),
+                    value.length > 2 ? value[2] : ""
+            ));
+        }
+        return sessions;
     }
 
     // ============================== 블랙리스트 ==============================
 
     /**
-     * 엑세스 토큰 블랙리스트 등록 (로그아웃)
+     * 엑세스 토큰 블랙리스트 여부 확인 (회원 단위 폐기 기록 -> 니어 캐시 -> Redis, 세션 단위)
+     * - 회원 단위 기록은 장애 중 전체 폐기가 복구 후 Redis 에 반영되기 전까지도 적용된다.
+     */
+    public boolean isBlacklisted(VerifiedToken access) {
+        String key = blacklistKey(access.subject(), access.sessionId());
+
+        return isBlacklistedTimer.record(() -> {
+            if (blacklistNearCache.isUserRevokedLocally(access.subject(), access.claims().getIssuedAt().toInstant())) {
+                return true;
+            }
+            try {
+                return blacklistNearCache.isBlacklisted(key, k ->
+                        call(blacklistLookupTimer, OP_BLACKLIST_LOOKUP, () -> redis.hasKey(KEY_BLACKLIST + k))
+                );
+            } catch (CallNotPermittedException | DataAccessException e) {
+                // 장애 중 결과는 니어 캐시에 남기지 않는다. (복구 후 바로 Redis 기준으로 판단)
+                degraded(OP_BLACKLIST_LOOKUP, e);
+                return blacklistNearCache.isRevokedLocally(key) || failurePolicy == FailurePolicy.FAIL_CLOSED;
+            }
+        });
+    }
+
+    // ============================== 장애 복구 ==============================
+
+    /**
+     * 보류된 쓰기 반영
+     * - 서킷이 열려 있으면 건너뛰고, 반 열림/닫힘 상태에서 순서대로 다시 실행한다. (반영 호출이 복구 확인 역할도 함)
+     * - 실패하면 남은 쓰기는 그대로 두고 다음 주기에 다시 시도한다.
      */
-    public void blackListAccess(String access) {
-        Claims claims = jwtProvider.validateAndParse(access);
-        String userId = claims.getSubject();
-        long ttlSeconds = secondsUntilExpiration(claims.getExpiration());
+    @Scheduled(fixedDelayString = "${token-redis.pending-writes.reconcile-interval:PT1S}")
+    public void reconcile() {
+        if (pendingWrites.isEmpty() || circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            return;
+        }
 
-        redis.opsForValue().set(KEY_BLACKLIST + userId, "1", Duration.ofSeconds(ttlSeconds));
+        int replayed = 0;
+        PendingWrite write;
+        while ((write = pendingWrites.peek()) != null) {
+            try {
+                call(reconcileTimer, write.operation(), write.write());
+            } catch (CallNotPermittedException | DataAccessException e) {
+                log.warn("보류된 쓰기 반영 중단: replayed={}, remaining={}, {}", replayed, pendingWrites.size(), e.getMessage());
+                return;
+            }
+            pendingWrites.poll();
+            replayed++;
+        }
+        log.info("보류된 쓰기 반영 완료: replayed={}", replayed);
     }
 
     /**
-     * 엑세스 토큰 블랙리스트 여부 확인
+     * 니어 캐시 블룸 필터 세대 교체 및 Redis 블랙리스트 재동기화
+     * - pub/sub 이벤트 유실에 대비해 주기적으로 Redis 의 블랙리스트 키를 다시 반영한다.
+     * - 구독 재연결/서킷 복구 시에도 호출된다. (BlacklistEventListener)
      */
-    public boolean isBlacklisted(String access) {
-        Claims claims = jwtProvider.validateAndParse(access);
-        String userId = claims.getSubject();
+    @Scheduled(
+            initialDelayString = "PT0S",
+            fixedDelayString = "${blacklist.near-cache.bloom.rotation:PT15M}"
+    )
+    public synchronized void resyncBlacklist() {
+        long epoch = blacklistNearCache.syncEpoch();
+        log.info("블랙리스트 니어 캐시 통계: {}", blacklistNearCache.stats());
+        blacklistNearCache.rotate();
 
-        return redis.hasKey(KEY_BLACKLIST + userId);
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_BLACKLIST + "*").count(1000).build();
+        try (Cursor<String> cursor = redis.scan(options)) {
+            cursor.forEachRemaining(key -> blacklistNearCache.markRevoked(key.substring(KEY_BLACKLIST.length())));
+            blacklistNearCache.markSynced(epoch);
+        } catch (Exception e) {
+            log.error("블랙리스트 재동기화 실패: {}", e.getMessage());
+            blacklistNearCache.markUnsynced();
+        }
+    }
+
+    /**
+     * 저장된 세션
+     *
+     * @param sessionId  세션 ID (토큰 sid 클레임)
+     * @param issuedAt   현재 리프레시 토큰 발급 시각
+     * @param lastUsedAt 마지막 로그인/재발급 시각
+     * @param device     로그인 기기 (User-Agent)
+     */
+    public record StoredSession(String sessionId, Instant issuedAt, Instant lastUsedAt, String device) {
+    }
+
+    /**
+     * Redis 장애 중 블랙리스트 확인/로그인 정책
+     * - FAIL_OPEN: 이 인스턴스가 폐기를 모르는 토큰은 허용, 로그인은 세션을 보류 후 허용 (가용성 우선)
+     * - FAIL_CLOSED: 모든 토큰 거부, 로그인 거절 (보안 우선)
+     */
+    public enum FailurePolicy {
+        FAIL_OPEN, FAIL_CLOSED
+    }
+
+    private record PendingWrite(String operation, Supplier<?> write) {
+    }
+
+    public enum RotateResult {
+        ROTATED, NOT_FOUND, REUSED;
+
+        static RotateResult of(Long result) {
+            if (result == null || result == 0) {
+                return NOT_FOUND;
+            }
+            return result > 0 ? ROTATED : REUSED;
+        }
     }
 
     // ============================== 유틸 메서드 ==============================
 
     /**
-     * 만료 시각까지 남은 시간 계산
+     * Redis 호출 (서킷 브레이커 + 메트릭 + JFR 이벤트)
+     * - 서킷이 열려 있으면 Redis 를 호출하지 않고 CallNotPermittedException 을 던진다.
      */
-    private long secondsUntilExpiration(Date expiration) {
-        return Math.max(1, Duration.between(Instant.now(), expiration.toInstant()).getSeconds());
+    private <T> T call(OutcomeTimer timer, String operation, Supplier<T> call) {
+        RedisCallEvent event = RedisCallEvent.start(operation);
+        boolean success = false;
+        try {
+            T result = timer.record(() -> circuitBreaker.executeSupplier(call));
+            success = true;
+            return result;
+        } finally {
+            event.finish(success);
+        }
+    }
+
+    private static OutcomeTimer timer(MeterRegistry meterRegistry, String operation) {
+        return new OutcomeTimer(meterRegistry, "token.redis", "operation", operation);
+    }
+
+    private void buffer(String operation, Supplier<?> write) {
+        if (!pendingWrites.offer(new PendingWrite(operation, write))) {
+            droppedWrites.increment();
+            log.error("보류 큐가 가득 차 쓰기 유실: operation={}", operation);
+        }
+    }
+
+    private void degraded(String operation, RuntimeException e) {
+        degradedCounters.computeIfAbsent(operation, op ->
+                meterRegistry.counter("token.redis.degraded", "operation", op, "policy", failurePolicy.name())
+        ).increment();
+        log.debug("Redis 장애 대체 처리: operation={}, {}", operation, e.getMessage());
+    }
+
+    private static List<String> sessionKeys(String userId) {
+        return List.of(KEY_SESSIONS + userId, KEY_SESSIONS_LRU + userId);
+    }
+
+    /**
+     * 니어 캐시/블랙리스트 키 ({userId}:{sid})
+     */
+    private static String blacklistKey(String userId, String sessionId) {
+        return userId + ":" + sessionId;
+    }
+
+    private void markRevoked(String userId, List<String> sessionIds) {
+        for (String sessionId : sessionIds) {
+            blacklistNearCache.markRevoked(blacklistKey(userId, sessionId));
+        }
+    }
+
+    /**
+     * 세션 값 (다이제스트|발급 시각|기기)
+     */
+    private static String sessionValue(String refresh, String device) {
+        return JwtProvider.digest(refresh) + SESSION_SEPARATOR + epochSecond() + SESSION_SEPARATOR + device;
+    }
+
+    /**
+     * 폐기된 세션의 엑세스 토큰은 남은 유효 기간을 알 수 없으므로 최대 유효 기간 동안 블랙리스트에 둔다.
+     */
+    private String blacklistTtl() {
+        return String.valueOf(jwtProvider.getAccessTokenValidity().toMillis());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> strings(List<?> result) {
+        return result == null ? List.of() : (List<String>) result;
+    }
+
+    private static String epochSecond() {
+        return String.valueOf(Instant.now().getEpochSecond());
     }
 }
@@ -0,0 +1,199 @@
+package com.sparta.userservice.service;
+
+import com.sparta.userservice.dto.response.GetSessionsResDto;
+import com.sparta.userservice.dto.response.SessionResDto;
+import com.sparta.userservice.global.cache.UserCache;
+import com.sparta.userservice.global.cache.UserSnapshot;
+import com.sparta.userservice.global.exception.UserException;
+import com.sparta.userservice.global.jfr.SignInEvent;
+import com.sparta.userservice.global.security.jwt.JwtProvider;
+import com.sparta.userservice.global.security.jwt.TokenPair;
+import com.sparta.userservice.global.security.jwt.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+import static com.sparta.userservice.domain.UserStatus.APPROVE;
+import static com.sparta.userservice.global.response.ErrorCode.*;
+import static com.sparta.userservice.global.security.jwt.JwtProvider.CLAIM_ROLE;
+
+/**
+ * 토큰 발급/재발급/세션 관리 (요청당 Redis 왕복 1회, 회원 정보는 회원 캐시)
+ * - 로그인: 세션 ID 발급 -> 토큰 쌍 서명 -> 세션 추가 (최대 세션 수 초과 시 LRU 폐기)
+ * - 재발급: 리프레시 토큰 서명 검증 -> 세션 절대 수명/회원 상태 확인 -> 현재 스냅샷으로 새 토큰 쌍 발급 -> 세션 단위 교체(CAS)
+ * - 로그아웃: 현재 세션만 폐기 (다른 기기 세션은 유지)
+ * - 상태(승인 취소)/역할이 바뀐 회원은 전체 세션을 폐기한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenService {
+
+    private static final int MAX_DEVICE_LENGTH = 128;
+
+    private final JwtProvider jwtProvider;
+    private final TokenRedisService tokenRedisService;
+    private final UserCache userCache;
+
+    /**
+     * 로그인 토큰 발급
+     *
+     * @param device 로그인 기기 (User-Agent, 세션 목록 표시용)
+     */
+    public TokenPair signIn(UserSnapshot user, String device) {
+        String sessionId = JwtProvider.newSessionId();
+        Instant authTime = Instant.now();
+
+        // 실패해도 단계별 이벤트를 남긴다. (success=false)
+        SignInEvent issue = SignInEvent.start(SignInEvent.ISSUE_TOKENS);
+        String access = null;
+        String refresh = null;
+        try {
+            access = jwtProvider.createAccessToken(user, sessionId, authTime);
+            refresh = jwtProvider.createRefreshToken(user, sessionId, authTime);
+        } finally {
+            issue.finish(refresh != null);
+        }
+
+        SignInEvent save = SignInEvent.start(SignInEvent.SAVE_REFRESH);
+        List<String> evicted = null;
+        try {
+            evicted = tokenRedisService.createSession(
+                    String.valueOf(user.userId()), sessionId, refresh, normalizeDevice(device)
+            );
+        } finally {
+            save.finish(evicted != null);
+        }
+
+        if (!evicted.isEmpty()) {
+            log.info("최대 세션 수 초과로 이전 세션 폐기: userId={}, sessionIds={}", user.userId(), evicted);
+        }
+        return new TokenPair(access, refresh);
+    }
+
+    public TokenPair refresh(String refreshToken) {
+        // 1. 리프레시 토큰 검증
+        VerifiedToken presented;
+        try {
+            presented = jwtProvider.verify(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new UserException(USER_INVALID_REFRESH_TOKEN);
+        }
+        if (!presented.isRefresh() || presented.sessionId() == null) {
+            log.error("리프레시 토큰이 아님: token_type={}, sid={}", presented.type(), presented.sessionId());
+            throw new UserException(USER_INVALID_REFRESH_TOKEN);
+        }
+
+        // 2. 세션 절대 수명 (재발급으로 연장되지 않음)
+        if (!Instant.now().isBefore(jwtProvider.sessionExpiration(jwtProvider.authTime(presented)))) {
+            log.info("세션 절대 수명 만료: userId={}, sid={}", presented.subject(), presented.sessionId());
+            tokenRedisService.revokeSessions(presented.subject(), List.of(presented.sessionId()));
+            throw new UserException(USER_SESSION_EXPIRED);
+        }
+
+        // 3. 현재 회원 상태 (승인 취소/삭제/역할 변경 -> 전체 세션 폐기)
+        UserSnapshot user = requireActiveUser(presented);
+
+        // 4. 현재 스냅샷으로 새 토큰 쌍 발급 (세션 ID, 로그인 시각 유지)
+        TokenPair pair = jwtProvider.rotate(presented, user);
+
+        // 5. 세션의 리프레시 토큰 교체
+        switch (tokenRedisService.rotateRefresh(presented, pair.refresh())) {
+            case ROTATED -> {
+                return pair;
+            }
+            case REUSED -> {
+                log.warn("리프레시 토큰 재사용 감지, 세션 폐기: userId={}, sid={}", presented.subject(), presented.sessionId());
+                throw new UserException(USER_REFRESH_TOKEN_REUSED);
+            }
+            default -> {
+                log.error("세션 없음: userId={}, sid={}", presented.subject(), presented.sessionId());
+                throw new UserException(USER_INVALID_REFRESH_TOKEN);
+            }
+        }
+    }
+
+    /**
+     * 로그아웃 (현재 세션만 폐기)
+     * - /v1/auth/** 는 인가 필터를 거치지 않으므로 여기서 검증한다. (검증 캐시 적중 시 서명 검증 생략)
+     */
+    public void signOut(String accessToken) {
+        VerifiedToken access = jwtProvider.verify(accessToken);
+        if (access.sessionId() != null) {
+            tokenRedisService.revokeSessions(access.subject(), List.of(access.sessionId()));
+        }
+    }
+
+    // ============================== 세션 관리 (본인) ==============================
+
+    public GetSessionsResDto getSessions(VerifiedToken current) {
+        List<SessionResDto> sessions = tokenRedisService.listSessions(current.subject()).stream()
+                .map(session -> SessionResDto.of(session, session.sessionId().equals(current.sessionId())))
+                .toList();
+        return new GetSessionsResDto(sessions);
+    }
+
+    /**
+     * 기기별 로그아웃
+     */
+    public void revokeSession(VerifiedToken current, String sessionId) {
+        if (tokenRedisService.revokeSessions(current.subject(), List.of(sessionId)).isEmpty()) {
+            log.error("세션 없음: userId={}, sid={}", current.subject(), sessionId);
+            throw new UserException(USER_SESSION_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 전체 기기 로그아웃 (현재 세션 포함)
+     */
+    public void revokeAllSessions(VerifiedToken current) {
+        List<String> revoked = tokenRedisService.revokeSessions(current.subject(), List.of());
+        log.info("전체 세션 폐기: userId={}, count={}", current.subject(), revoked.size());
+    }
+
+    /**
+     * 회원 전체 세션 폐기 (상태/역할 변경 등 관리자 처리)
+     */
+    public void revokeAllSessions(Long userId, String reason) {
+        List<String> revoked = tokenRedisService.revokeSessions(String.valueOf(userId), List.of());
+        log.info("전체 세션 폐기: userId={}, reason={}, count={}", userId, reason, revoked.size());
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    /**
+     * 재발급 가능한 회원 (회원 캐시 조회)
+     * - 없음/삭제/승인 상태 아님/토큰 발급 후 역할 변경이면 전체 세션을 폐기하고 거절한다.
+     */
+    private UserSnapshot requireActiveUser(VerifiedToken presented) {
+        UserSnapshot user = userCache.findById(Long.valueOf(presented.subject())).orElse(null);
+
+        String reason = null;
+        if (user == null || user.deleted()) {
+            reason = "deleted";
+        } else if (user.status() != APPROVE) {
+            reason = "status=" + user.status();
+        } else if (!Objects.equals(user.role().name(), presented.claims().get(CLAIM_ROLE, String.class))) {
+            reason = "role=" + user.role();
+        }
+
+        if (reason != null) {
+            revokeAllSessions(Long.valueOf(presented.subject()), reason);
+            throw new UserException(USER_INVALID_REFRESH_TOKEN);
+        }
+        return user;
+    }
+
+    private static String normalizeDevice(String device) {
+        if (!StringUtils.hasText(device)) {
+            return "";
+        }
+        return device.length() > MAX_DEVICE_LENGTH ? device.substring(0, MAX_DEVICE_LENGTH) : device;
+    }
+}
@@ -0,0 +1,266 @@
+package com.sparta.userservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sparta.userservice.domain.User;
+import com.sparta.userservice.domain.UserRole;
+import com.sparta.userservice.dto.request.CreateUserReqDto;
+import com.sparta.userservice.dto.response.ImportUserResDto;
+import com.sparta.userservice.dto.response.ImportUsersResDto;
+import com.sparta.userservice.global.exception.UserException;
+import com.sparta.userservice.global.response.ErrorCode;
+import com.sparta.userservice.global.security.password.BoundedPasswordEncoder;
+import com.sparta.userservice.repository.UserBulkInsertRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.sparta.userservice.domain.UserStatus.APPROVE;
+import static com.sparta.userservice.global.response.ErrorCode.*;
+
+/**
+ * 관리자 - 회원 대량 등록 (CSV / NDJSON 스트리밍)
+ * 1. 한 줄씩 읽어 검증하고, 통과한 행을 청크 크기만큼 모은다.
+ * 2. 청크의 비밀번호를 해시 전용 풀에서 병렬로 해시한다.
+ * 3. 청크를 INSERT 1회로 저장하고(청크마다 커밋), 행 단위 결과를 바로 응답에 쓴다.
+ * 메모리에는 청크 하나만 올라가므로 파일 크기와 무관하다. (한 줄 길이는 max-line-length 로 제한)
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    public static final String FORMAT_CSV = "text/csv";
+    public static final String FORMAT_NDJSON = "application/x-ndjson";
+
+    private final UserBulkInsertRepository userBulkInsertRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter resultWriter;
+    private final int chunkSize;
+    private final int maxLineLength;
+
+    public UserImportService(
+            UserBulkInsertRepository userBulkInsertRepository,
+            BoundedPasswordEncoder passwordEncoder,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${user-import.chunk-size:500}") int chunkSize,
+            @Value("${user-import.max-line-length:4096}") int maxLineLength
+    ) {
+        this.userBulkInsertRepository = userBulkInsertRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.resultWriter = objectMapper.writer();
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * 대량 등록
+     *
+     * @param format CSV(첫 줄 헤더) 또는 NDJSON
+     * @param in     요청 본문
+     * @param out    결과 스트림 (행마다 ImportUserResDto, 마지막 줄 ImportUsersResDto)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @PreAuthorize("hasRole('MASTER')")
+    public void importUsers(String format, InputStream in, OutputStream out, Authentication auth) throws IOException {
+        ImportLineReader reader = new ImportLineReader(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), maxLineLength
+        );
+        boolean csv = FORMAT_CSV.equals(format);
+        String[] header = csv ? readHeader(reader) : null;
+
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = csv ? 1 : 0;
+        long total = 0;
+        long created = 0;
+
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!reader.overflowed() && line.isBlank()) {
+                    continue;
+                }
+                total++;
+
+                if (reader.overflowed()) {
+                    write(out, ImportUserResDto.failed(lineNumber, null, USER_BAD_REQUEST,
+                            "line length exceeds " + maxLineLength));
+                    continue;
+                }
+
+                // 1. 파싱 + 검증 (실패 행은 바로 결과 기록)
+                Row row = parse(lineNumber, line, header);
+                if (row.failure() != null) {
+                    write(out, row.failure());
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    created += flush(chunk, out, auth.getName());
+                }
+            }
+            created += flush(chunk, out, auth.getName());
+            write(out, new ImportUsersResDto(total, created, total - created, null));
+        } catch (UserException | DataAccessException e) {
+            log.error("회원 대량 등록 중단: line={}, {}", lineNumber, e.getMessage());
+            String reason = e instanceof UserException ue ? ue.getErrorCode().getDetails()
+                    : USER_INTERNAL_SERVER_ERROR.getDetails();
+            write(out, new ImportUsersResDto(total, created, total - created, reason));
+        }
+        out.flush();
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    /**
+     * 청크 저장 (비밀번호 병렬 해시 -> INSERT 1회 -> 결과 기록)
+     */
+    private long flush(List<Row> chunk, OutputStream out, String createdBy) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 비밀번호 해시
+        List<String> hashes = passwordEncoder.encodeAll(chunk.stream().map(row -> row.request().getPassword()).toList());
+        List<User> users = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            users.add(toUser(chunk.get(i).request(), hashes.get(i)));
+        }
+
+        // 3. 저장 (중복은 건너뜀)
+        List<Long> userIds = userBulkInsertRepository.insertAll(users, createdBy);
+        Set<String> existingUsernames = userIds.contains(null)
+                ? userBulkInsertRepository.findExistingUsernames(users.stream().map(User::getUsername).toList())
+                : Set.of();
+
+        long created = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            Row row = chunk.get(i);
+            String username = users.get(i).getUsername();
+            Long userId = userIds.get(i);
+
+            if (userId != null) {
+                created++;
+                write(out, ImportUserResDto.created(row.line(), username, userId));
+            } else {
+                // 같은 파일 내 중복은 먼저 나온 행이 저장된다.
+                ErrorCode errorCode = existingUsernames.contains(username) ? USER_DUPLICATED_USERNAME : USER_DUPLICATED_EMAIL;
+                write(out, ImportUserResDto.failed(row.line(), username, errorCode));
+            }
+        }
+        out.flush();
+        chunk.clear();
+        return created;
+    }
+
+    private Row parse(long line, String text, String[] header) {
+        CreateUserReqDto request;
+        try {
+            request = header == null
+                    ? objectMapper.readValue(text, CreateUserReqDto.class)
+                    : objectMapper.convertValue(csvRow(header, text), CreateUserReqDto.class);
+        } catch (IOException | IllegalArgumentException e) {
+            return Row.failed(ImportUserResDto.failed(line, null, USER_BAD_REQUEST));
+        }
+
+        String username = request.getUsername();
+        Set<ConstraintViolation<CreateUserReqDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<CreateUserReqDto> violation = violations.iterator().next();
+            return Row.failed(ImportUserResDto.failed(line, username, USER_BAD_REQUEST,
+                    violation.getPropertyPath() + ": " + violation.getMessage()));
+        }
+
+        // 역할별 소속 확인
+        UserRole role = request.getRole();
+        if ((role == UserRole.HUB_MANAGER || role == UserRole.DELIVERY_MANAGER) && request.getHubId() == null) {
+            return Row.failed(ImportUserResDto.failed(line, username, USER_HUB_ID_REQUIRED));
+        }
+        if (role == UserRole.VENDOR_MANAGER && request.getVendorId() == null) {
+            return Row.failed(ImportUserResDto.failed(line, username, USER_VENDOR_ID_REQUIRED));
+        }
+        return new Row(line, request, null);
+    }
+
+    private User toUser(CreateUserReqDto request, String encodedPassword) {
+        UserRole role = request.getRole();
+        return User.builder()
+                .username(request.getUsername().trim())
+                .password(encodedPassword)
+                .name(request.getName())
+                .email(request.getEmail().trim().toLowerCase())
+                .role(role)
+                .status(APPROVE)
+                .slackAccountId(request.getSlackAccountId())
+                .hubId(role == UserRole.HUB_MANAGER || role == UserRole.DELIVERY_MANAGER ? request.getHubId() : null)
+                .vendorId(role == UserRole.VENDOR_MANAGER ? request.getVendorId() : null)
+                .isDeliveryManager(role == UserRole.DELIVERY_MANAGER)
+                .build();
+    }
+
+    private String[] readHeader(ImportLineReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null || reader.overflowed()) {
+            log.error("CSV 헤더 누락 또는 길이 초과");
+            throw new UserException(USER_BAD_REQUEST);
+        }
+        // UTF-8 BOM 제거
+        if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        try {
+            return ImportLineReader.splitCsv(header).toArray(String[]::new);
+        } catch (IllegalArgumentException e) {
+            log.error("CSV 헤더 형식 오류: {}", e.getMessage());
+            throw new UserException(USER_BAD_REQUEST);
+        }
+    }
+
+    private static Map<String, String> csvRow(String[] header, String line) {
+        List<String> values = ImportLineReader.splitCsv(line);
+        Map<String, String> row = new HashMap<>(header.length * 2);
+        for (int i = 0; i < header.length && i < values.size(); i++) {
+            if (!values.get(i).isEmpty()) {
+                row.put(header[i].trim(), values.get(i));
+            }
+        }
+        return row;
+    }
+
+    private void write(OutputStream out, Object result) throws IOException {
+        out.write(resultWriter.writeValueAsBytes(result));
+        out.write('\n');
+    }
+
+    private record Row(long line, CreateUserReqDto request, ImportUserResDto failure) {
+
+        static Row failed(ImportUserResDto failure) {
+            return new Row(failure.getLine(), null, failure);
+        }
+    }
+}
@@ -1,32 +1,51 @@
 package com.sparta.userservice.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.userservice.domain.User;
 import com.sparta.userservice.domain.UserStatus;
 import com.sparta.userservice.dto.request.ApproveUsersReqDto;
 import com.sparta.userservice.dto.request.CreateUserReqDto;
+import com.sparta.userservice.dto.request.GetSlackAccountIdsReqDto;
 import com.sparta.userservice.dto.request.RejectUsersReqDto;
+import com.sparta.userservice.dto.request.SearchUsersReqDto;
 import com.sparta.userservice.dto.response.CreateUserResDto;
 import com.sparta.userservice.dto.response.GetSlackAccountIdResDto;
+import com.sparta.userservice.dto.response.GetSlackAccountIdsResDto;
 import com.sparta.userservice.dto.response.GetUserResDto;
+import com.sparta.userservice.dto.response.GetUsersResDto;
 import com.sparta.userservice.dto.response.UpdateStatusResDto;
+import com.sparta.userservice.global.cache.SlackAccountCache;
+import com.sparta.userservice.global.cache.UserCache;
+import com.sparta.userservice.global.cache.UserSnapshot;
+import com.sparta.userservice.global.exception.UserConstraintTranslator;
 import com.sparta.userservice.global.exception.UserException;
+import com.sparta.userservice.global.security.jwt.user.ClaimsUserDetails;
 import com.sparta.userservice.global.security.jwt.user.UserDetailsImpl;
+import com.sparta.userservice.repository.UserBulkUpdateRepository;
 import com.sparta.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static com.sparta.userservice.domain.UserStatus.APPROVE;
+import static com.sparta.userservice.domain.UserStatus.REJECT;
 import static com.sparta.userservice.global.response.ErrorCode.*;
 
 @Slf4j
@@ -36,40 +55,45 @@ import static com.sparta.userservice.global.response.ErrorCode.*;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final SlackAccountCache slackAccountCache;
     private final PasswordEncoder passwordEncoder;
+    private final UserBulkUpdateRepository userBulkUpdateRepository;
+    private final ObjectMapper objectMapper;
+    private final TokenService tokenService;
+
+    @Value("${user-status.chunk-size:1000}")
+    private int statusChunkSize;
 
     /**
-     * 가입 요청 일괄 승인
+     * 가입 요청 일괄 승인 (응답은 UpdateStatusResDto 형태로 스트리밍)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @PreAuthorize("hasRole('MASTER')")
-    public UpdateStatusResDto approveUsers(ApproveUsersReqDto requestDto, Authentication auth) {
-        return updateStatus(requestDto.getUserIds(), auth, true);
+    public void approveUsers(ApproveUsersReqDto requestDto, Authentication auth, OutputStream out) throws IOException {
+        updateStatus(requestDto.getUserIds(), auth, APPROVE, out);
     }
 
     /**
-     * 가입 요청 일괄 거절
+     * 가입 요청 일괄 거절 (응답은 UpdateStatusResDto 형태로 스트리밍)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @PreAuthorize("hasRole('MASTER')")
-    public UpdateStatusResDto rejectUsers(RejectUsersReqDto requestDto, Authentication auth) {
-        return updateStatus(requestDto.getUserIds(), auth, false);
+    public void rejectUsers(RejectUsersReqDto requestDto, Authentication auth, OutputStream out) throws IOException {
+        updateStatus(requestDto.getUserIds(), auth, REJECT, out);
     }
 
     /**
      * 관리자 - 회원 등록
+     * - 아이디/이메일 중복은 INSERT 시 유니크 제약으로 판단한다. (조회 없이 1회 왕복)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @PreAuthorize("hasRole('MASTER')")
     public CreateUserResDto createUser(CreateUserReqDto requestDto, Authentication auth) {
-        // 1. 중복 확인
         String username = requestDto.getUsername().trim();
         String email = requestDto.getEmail().trim().toLowerCase();
 
-        validateUniqueUsername(requestDto.getUsername().trim());
-        validateUniqueEmail(requestDto.getEmail().trim());
-
-        User user = userRepository.save(User.builder()
+        User user = User.builder()
                 .username(username)
                 .password(passwordEncoder.encode(requestDto.getPassword()))
                 .name(requestDto.getName())
@@ -77,10 +101,10 @@ public class UserService {
                 .role(requestDto.getRole())
                 .status(APPROVE)
                 .slackAccountId(requestDto.getSlackAccountId())
-                .build()
-        );
+                .isDeliveryManager(false)
+                .build();
 
-        // 4. 권한 확인
+        // 1. 권한 확인 (저장 전에 소속 지정)
         UUID hubId = requestDto.getHubId();
         UUID vendorId = requestDto.getVendorId();
         switch (user.getRole()) {
@@ -98,6 +122,14 @@ public class UserService {
                 user.assignAsDeliveryManager();
             }
         }
+
+        // 2. 저장 (아이디/이메일 중복 확인)
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            log.error("중복 회원 등록 시도: username={}", username);
+            throw UserConstraintTranslator.translate(e);
+        }
         return CreateUserResDto.from(user);
     }
 
@@ -109,10 +141,25 @@ public class UserService {
         return GetUserResDto.from(findUserById(userId));
     }
 
+    /**
+     * 관리자 - 회원 목록 조회 (키셋 페이지네이션)
+     */
+    @PreAuthorize("hasRole('MASTER')")
+    public GetUsersResDto searchUsers(SearchUsersReqDto condition) {
+        return GetUsersResDto.of(userRepository.searchUsers(condition), condition.size());
+    }
+
     /**
      * 회원 - 본인 정보 조회
+     * - 토큰에는 개인정보가 없으므로 클레임 기반 인증 주체는 회원 캐시에서 조회한다. (대부분 로컬 캐시 적중)
+     * - 트랜잭션을 시작하지 않아 캐시 적중 시 커넥션도 획득하지 않는다.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public GetUserResDto getUser(Authentication auth) {
+        if (auth.getPrincipal() instanceof ClaimsUserDetails principal) {
+            return GetUserResDto.from(findUserById(principal.getUserId()));
+        }
+
         UserDetailsImpl principal = (UserDetailsImpl) auth.getPrincipal();
         return GetUserResDto.from(principal.getUser());
     }
@@ -121,23 +168,23 @@ public class UserService {
      * 슬랙 아이디 조회 (요청 응답)
      */
     public GetSlackAccountIdResDto getSlackAccountId(Long userId) {
-        User user = findUserById(userId);
-        return new GetSlackAccountIdResDto(user.getSlackAccountId());
+        String slackAccountId = slackAccountCache.get(userId)
+                .orElseThrow(() -> {
+                    log.error("회원을 찾을 수 없음: userId={}", userId);
+                    return new UserException(USER_NOT_FOUND);
+                });
+        return new GetSlackAccountIdResDto(slackAccountId);
     }
 
-    // ============================ 유틸 메서드 ============================
-
-    private void validateUniqueUsername(String username) {
-        if (userRepository.existsByUsername(username)) {
-            throw new UserException(USER_DUPLICATED_USERNAME);
-        }
+    /**
+     * 슬랙 아이디 일괄 조회 (알림 발송용, 캐시에 없는 ID 만 쿼리 1회)
+     */
+    public GetSlackAccountIdsResDto getSlackAccountIds(GetSlackAccountIdsReqDto requestDto) {
+        List<Long> userIds = requestDto.getUserIds().stream().distinct().toList();
+        return new GetSlackAccountIdsResDto(slackAccountCache.getAll(userIds));
     }
 
-    private void validateUniqueEmail(String email) {
-        if (userRepository.existsByEmail(email)) {
-            throw new UserException(USER_DUPLICATED_EMAIL);
-        }
-    }
+    // ============================ 유틸 메서드 ============================
 
     private void requireAffiliationId(UUID hubId) {
         if (hubId == null) {
@@ -153,50 +200,80 @@ public class UserService {
         }
     }
 
-    private User findUserById(Long userId) {
-        return userRepository.findById(userId)
+    private UserSnapshot findUserById(Long userId) {
+        return userCache.findById(userId)
                 .orElseThrow(() -> {
                     log.error("회원을 찾을 수 없음: userId={}", userId);
                     return new UserException(USER_NOT_FOUND);
                 });
     }
 
-    private UpdateStatusResDto updateStatus(List<Long> userIds, Authentication auth, boolean approve) {
+    /**
+     * 상태 일괄 변경
+     * - 청크마다 UPDATE 1회 (이미 같은 상태면 갱신 없이 completed)
+     * - completed 는 청크마다 바로 쓰고, failed 는 비트셋에 표시해 두었다가 마지막에 쓴다.
+     * - 처리 도중 중단되면 남은 회원은 failed 에 중단 사유로 쓰고 error 에 사유를 담는다. (이전 청크는 이미 반영된 상태)
+     * - 그 밖의 예외로 중단되면 JSON 을 닫지 않는다. (잘린 응답으로 실패를 알 수 있도록)
+     */
+    private void updateStatus(List<Long> userIds, Authentication auth, UserStatus status, OutputStream out) throws IOException {
         // 1. 중복 제거
         List<Long> distinctUserIds = userIds.stream().distinct().toList();
+        BitSet notFound = new BitSet(distinctUserIds.size());
+        int processed = 0;
+        String error = null;
+
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            json.writeStartObject();
+            json.writeArrayFieldStart("completed");
+
+            try {
+                for (int from = 0; from < distinctUserIds.size(); from += statusChunkSize) {
+                    List<Long> chunk = distinctUserIds.subList(from, Math.min(from + statusChunkSize, distinctUserIds.size()));
 
-        // 2. 회원 조회
-        Map<Long, User> users = userRepository.findAllById(distinctUserIds).stream()
-                .collect(Collectors.toMap(User::getUserId, user -> user));
+                    // 2. 상태 변경 (존재하는 회원 -> 변경된 경우 새 스냅샷)
+                    Map<Long, UserSnapshot> found = userBulkUpdateRepository.updateStatus(chunk, status, auth.getName());
 
-        List<Long> completed = new ArrayList<>();
-        List<UpdateStatusResDto.Failure> failed = new ArrayList<>();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        Long userId = chunk.get(i);
+                        if (found.containsKey(userId)) {
+                            json.writeNumber(userId);
+                        } else {
+                            notFound.set(from + i);
+                        }
+                    }
+                    json.flush();
+                    processed = from + chunk.size();
 
-        for (Long userId : distinctUserIds) {
-            User user = users.get(userId);
-            if (user == null) {
-                failed.add(new UpdateStatusResDto.Failure(userId, USER_NOT_FOUND.getDetails()));
-                continue;
+                    // 3. 캐시 갱신 (변경된 회원만, 새 버전으로 덮어씀)
+                    found.values().removeIf(Objects::isNull);
+                    userCache.putAll(found.values());
+
+                    // 4. 승인 취소된 회원은 전체 세션 폐기 (승인으로 바뀐 회원은 로그인 불가 상태였으므로 세션 없음)
+                    if (status != APPROVE) {
+                        found.keySet().forEach(userId -> tokenService.revokeAllSessions(userId, "status=" + status));
+                    }
+                }
+            } catch (UserException | DataAccessException e) {
+                log.error("회원 상태 일괄 변경 중단: status={}, processed={}/{}, {}",
+                        status, processed, distinctUserIds.size(), e.getMessage());
+                error = e instanceof UserException ue ? ue.getErrorCode().getDetails()
+                        : USER_INTERNAL_SERVER_ERROR.getDetails();
             }
 
-            if (approve && user.getStatus() == APPROVE) {
-                completed.add(userId);
-                continue;
+            json.writeEndArray();
+            json.writeArrayFieldStart("failed");
+            for (int i = notFound.nextSetBit(0); i >= 0; i = notFound.nextSetBit(i + 1)) {
+                json.writeObject(new UpdateStatusResDto.Failure(distinctUserIds.get(i), USER_NOT_FOUND.getDetails()));
             }
-            if (!approve && user.getStatus() == UserStatus.REJECT) {
-                completed.add(userId);
-                continue;
+            for (int i = processed; i < distinctUserIds.size(); i++) {
+                json.writeObject(new UpdateStatusResDto.Failure(distinctUserIds.get(i), error));
             }
-
-            // 3. 상태 변경
-            if (approve) {
-                user.approve();
-            } else {
-                user.reject();
+            json.writeEndArray();
+            if (error != null) {
+                json.writeStringField("error", error);
             }
-            completed.add(userId);
+            json.writeEndObject();
         }
-
-        return new UpdateStatusResDto(completed, failed);
     }
 }
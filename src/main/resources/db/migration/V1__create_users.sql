@@ -0,0 +1,45 @@
+-- 회원 테이블 + 조회 경로별 인덱스
+-- 엔티티(User)와 컬럼이 달라지면 기동 시 ddl-auto=validate 에서 실패한다.
+
+-- pooled 옵티마이저 allocation size (hibernate.id.user.increment_size) 와 같아야 한다.
+CREATE SEQUENCE p_users_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE p_users
+(
+    user_id             BIGINT       NOT NULL,
+    username            VARCHAR(10)  NOT NULL,
+    password            VARCHAR(100) NOT NULL,
+    name                VARCHAR(20)  NOT NULL,
+    email               VARCHAR(100) NOT NULL,
+    role                VARCHAR(20)  NOT NULL,
+    status              VARCHAR(20)  NOT NULL,
+    slack_account_id    VARCHAR(100) NOT NULL,
+    hub_id              UUID,
+    vendor_id           UUID,
+    is_delivery_manager BOOLEAN,
+    version             BIGINT,
+    created_at          TIMESTAMP(6),
+    created_by          VARCHAR(255),
+    updated_at          TIMESTAMP(6),
+    updated_by          VARCHAR(255),
+    deleted_at          TIMESTAMP(6),
+    deleted_by          VARCHAR(255),
+    CONSTRAINT pk_users PRIMARY KEY (user_id),
+    CONSTRAINT ck_users_role CHECK (role IN ('MASTER', 'HUB_MANAGER', 'DELIVERY_MANAGER', 'VENDOR_MANAGER')),
+    CONSTRAINT ck_users_status CHECK (status IN ('PENDING', 'APPROVE', 'REJECT'))
+);
+
+-- 로그인 / 토큰 발급 (findByUsername), 중복 가입 판정 (uk_users_username)
+CREATE UNIQUE INDEX uk_users_username ON p_users (username);
+
+-- 아이디 찾기 (findUserByEmail: lower(email) = lower(?)), 대소문자 무시 중복 판정 (uk_users_email)
+CREATE UNIQUE INDEX uk_users_email ON p_users (lower(email));
+
+-- 회원 목록 키셋 조회 (삭제되지 않은 회원만, 필터 + user_id 내림차순)
+-- 가입 승인 대기 목록 (status = PENDING, 전체 중 소수)
+CREATE INDEX idx_users_pending_user_id ON p_users (user_id) WHERE status = 'PENDING' AND deleted_at IS NULL;
+CREATE INDEX idx_users_role_user_id ON p_users (role, user_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_users_hub_id_delivery_user_id ON p_users (hub_id, is_delivery_manager, user_id)
+    WHERE hub_id IS NOT NULL AND deleted_at IS NULL;
+CREATE INDEX idx_users_vendor_id_user_id ON p_users (vendor_id, user_id)
+    WHERE vendor_id IS NOT NULL AND deleted_at IS NULL;
@@ -0,0 +1,5 @@
+-- 허브별 회원 목록 키셋 조회 (hub_id 만 지정, 필터 + user_id 내림차순)
+-- idx_users_hub_id_delivery_user_id 는 is_delivery_manager 가 hub_id 와 user_id 사이에 있어
+-- 배송 담당자 여부 없이 조회하면 user_id 순서를 쓰지 못하고 정렬이 필요하다.
+-- 운영 중 쓰기를 막지 않도록 CONCURRENTLY (트랜잭션 밖에서 실행되므로 이 파일에는 이 문장만 둔다.)
+CREATE INDEX CONCURRENTLY idx_users_hub_id_user_id ON p_users (hub_id, user_id) WHERE deleted_at IS NULL;
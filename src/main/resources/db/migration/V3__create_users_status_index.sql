@@ -0,0 +1,4 @@
+-- 상태별 회원 목록 키셋 조회 (status 만 지정, 필터 + user_id 내림차순)
+-- V1 에는 PENDING 전용 부분 인덱스만 있어 APPROVE/REJECT 조회는 user_id 순으로 훑으며 상태를 걸러야 한다.
+-- 운영 중 쓰기를 막지 않도록 CONCURRENTLY (트랜잭션 밖에서 실행되므로 이 파일에는 이 문장만 둔다.)
+CREATE INDEX CONCURRENTLY idx_users_status_user_id ON p_users (status, user_id) WHERE deleted_at IS NULL;
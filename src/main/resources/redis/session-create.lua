@@ -0,0 +1,38 @@
+-- 세션 생성 (로그인)
+-- KEYS[1]: sessions:{userId} (해시 sid -> "digest|iat|device")
+-- KEYS[2]: sessions:lru:{userId} (정렬 집합 sid -> 마지막 사용 시각 ms)
+-- ARGV[1]: sid, ARGV[2]: 세션 값, ARGV[3]: 현재 시각(ms), ARGV[4]: 최대 세션 수, ARGV[5]: 리프레시 유효 기간(ms)
+-- ARGV[6]: 블랙리스트 키 접두사(blacklist:{userId}:), ARGV[7]: 블랙리스트 TTL(ms), ARGV[8]: 채널, ARGV[9]: 이벤트 접두사({userId}:)
+-- 반환: 최대 세션 수를 넘어 밀려난 sid 목록
+local now = tonumber(ARGV[3])
+local ttl = tonumber(ARGV[5])
+
+-- 1. 리프레시 유효 기간 동안 사용되지 않은 세션 정리 (엑세스 토큰도 이미 만료)
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now - ttl)
+for _, sid in ipairs(expired) do
+    redis.call('HDEL', KEYS[1], sid)
+end
+if #expired > 0 then
+    redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now - ttl)
+end
+
+-- 2. 세션 추가
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('ZADD', KEYS[2], now, ARGV[1])
+
+-- 3. 최대 세션 수 초과 시 가장 오래 사용하지 않은 세션부터 폐기
+local evicted = {}
+local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[4])
+if overflow > 0 then
+    evicted = redis.call('ZRANGE', KEYS[2], 0, overflow - 1)
+    for _, sid in ipairs(evicted) do
+        redis.call('HDEL', KEYS[1], sid)
+        redis.call('ZREM', KEYS[2], sid)
+        redis.call('SET', ARGV[6] .. sid, '1', 'PX', ARGV[7])
+    end
+    redis.call('PUBLISH', ARGV[8], ARGV[9] .. table.concat(evicted, '\n' .. ARGV[9]))
+end
+
+redis.call('PEXPIRE', KEYS[1], ttl)
+redis.call('PEXPIRE', KEYS[2], ttl)
+return evicted
@@ -0,0 +1,14 @@
+-- 세션 목록 (최근 사용 순)
+-- KEYS[1]: sessions:{userId}, KEYS[2]: sessions:lru:{userId}
+-- 반환: [sid, 세션 값, 마지막 사용 시각(ms)] 반복
+local lru = redis.call('ZREVRANGE', KEYS[2], 0, -1, 'WITHSCORES')
+local result = {}
+for i = 1, #lru, 2 do
+    local value = redis.call('HGET', KEYS[1], lru[i])
+    if value then
+        result[#result + 1] = lru[i]
+        result[#result + 1] = value
+        result[#result + 1] = lru[i + 1]
+    end
+end
+return result
@@ -0,0 +1,27 @@
+-- 세션 폐기 (로그아웃, 기기별 로그아웃, 전체 로그아웃)
+-- KEYS[1]: sessions:{userId}, KEYS[2]: sessions:lru:{userId}
+-- ARGV[1]: 블랙리스트 키 접두사(blacklist:{userId}:), ARGV[2]: 블랙리스트 TTL(ms), ARGV[3]: 채널, ARGV[4]: 이벤트 접두사({userId}:)
+-- ARGV[5..]: 폐기할 sid (없으면 전체)
+-- 반환: 폐기된 sid 목록 (이미 없는 세션은 제외)
+local sids = {}
+if #ARGV > 4 then
+    for i = 5, #ARGV do
+        sids[#sids + 1] = ARGV[i]
+    end
+else
+    sids = redis.call('HKEYS', KEYS[1])
+end
+
+local revoked = {}
+for _, sid in ipairs(sids) do
+    if redis.call('HDEL', KEYS[1], sid) == 1 then
+        redis.call('ZREM', KEYS[2], sid)
+        redis.call('SET', ARGV[1] .. sid, '1', 'PX', ARGV[2])
+        revoked[#revoked + 1] = sid
+    end
+end
+
+if #revoked > 0 then
+    redis.call('PUBLISH', ARGV[3], ARGV[4] .. table.concat(revoked, '\n' .. ARGV[4]))
+end
+return revoked
@@ -0,0 +1,26 @@
+-- 리프레시 토큰 교체 (세션 단위 compare-and-swap, 다이제스트 비교)
+-- KEYS[1]: sessions:{userId}, KEYS[2]: sessions:lru:{userId}
+-- ARGV[1]: sid, ARGV[2]: 제시된 토큰 다이제스트, ARGV[3]: 새 토큰 다이제스트, ARGV[4]: 발급 시각(epoch 초)
+-- ARGV[5]: 현재 시각(ms), ARGV[6]: 리프레시 유효 기간(ms)
+-- ARGV[7]: 블랙리스트 키(blacklist:{userId}:{sid}), ARGV[8]: 블랙리스트 TTL(ms), ARGV[9]: 채널, ARGV[10]: 이벤트 값({userId}:{sid})
+-- 반환: 1 교체 / 0 세션 없음(로그아웃, 만료, 밀려남) / -1 이전 토큰 재사용(해당 세션 폐기)
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+if not current then
+    return 0
+end
+
+local digest, device = string.match(current, '^([^|]*)|[^|]*|(.*)$')
+if digest ~= ARGV[2] then
+    -- 탈취 의심: 이 세션만 폐기하고 다른 기기 세션은 유지
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('ZREM', KEYS[2], ARGV[1])
+    redis.call('SET', ARGV[7], '1', 'PX', ARGV[8])
+    redis.call('PUBLISH', ARGV[9], ARGV[10])
+    return -1
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. ARGV[4] .. '|' .. device)
+redis.call('ZADD', KEYS[2], ARGV[5], ARGV[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[6])
+redis.call('PEXPIRE', KEYS[2], ARGV[6])
+return 1
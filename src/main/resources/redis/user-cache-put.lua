@@ -0,0 +1,23 @@
+-- 회원 스냅샷 저장 (저장된 버전이 더 최신이면 덮어쓰지 않음, 스냅샷 여러 개를 한 번에 저장)
+-- KEYS: 스냅샷마다 키 2개 (id, username) -> KEYS[2i-1], KEYS[2i]
+-- ARGV[1]: TTL(ms), 스냅샷마다 ARGV[2i]: 스냅샷 JSON, ARGV[2i+1]: 버전
+local written = 0
+for i = 1, #KEYS do
+    local snapshot = math.floor((i + 1) / 2)
+    local json = ARGV[snapshot * 2]
+    local version = tonumber(ARGV[snapshot * 2 + 1])
+
+    local current = redis.call('GET', KEYS[i])
+    local stale = false
+    if current then
+        local ok, decoded = pcall(cjson.decode, current)
+        if ok and decoded['version'] and tonumber(decoded['version']) > version then
+            stale = true
+        end
+    end
+    if not stale then
+        redis.call('SET', KEYS[i], json, 'PX', ARGV[1])
+        written = written + 1
+    end
+end
+return written
@@ -3,7 +3,8 @@ package com.sparta.userservice;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// 테스트는 키 저장소 없이 임시 서명 키 사용, 기동 워밍업 생략
+@SpringBootTest(properties = {"jwt.signing.ephemeral-key=true", "warm-up.enabled=false"})
 class UserServiceApplicationTests {
 
     @Test
@@ -0,0 +1,66 @@
+package com.sparta.userservice.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlacklistNearCacheTest {
+
+    private final BlacklistNearCache cache = new BlacklistNearCache(1000, Duration.ofMinutes(1), 1000, 0.01, Duration.ofMinutes(15));
+
+    @Test
+    void 동기화_전에는_Redis_조회() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.isBlacklisted("1", key -> calls.incrementAndGet() < 0)).isFalse();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void 동기화_후_블룸_필터에_없으면_Redis_조회_생략() {
+        cache.markSynced(cache.syncEpoch());
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.isBlacklisted("1", key -> calls.incrementAndGet() < 0)).isFalse();
+        assertThat(calls).hasValue(0);
+        assertThat(cache.stats().bloomNegatives()).isEqualTo(1);
+    }
+
+    @Test
+    void 등록된_키는_로컬_캐시에서_확인() {
+        cache.markSynced(cache.syncEpoch());
+        cache.markRevoked("1");
+
+        assertThat(cache.isBlacklisted("1", key -> false)).isTrue();
+        assertThat(cache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void 세대_교체_후에도_이전_세대_등록_유지() {
+        cache.markSynced(cache.syncEpoch());
+        cache.markRevoked("1");
+        cache.rotate();
+
+        assertThat(cache.isBlacklisted("1", key -> true)).isTrue();
+    }
+
+    @Test
+    void Redis_조회_실패는_캐시하지_않고_폐기_기록으로_판단() {
+        cache.markRevoked("1");
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> cache.isBlacklisted("2", key -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("redis down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.isBlacklisted("2", key -> calls.incrementAndGet() < 0)).isFalse();
+        assertThat(calls).hasValue(2);
+
+        assertThat(cache.isRevokedLocally("1")).isTrue();
+        assertThat(cache.isRevokedLocally("2")).isFalse();
+    }
+}
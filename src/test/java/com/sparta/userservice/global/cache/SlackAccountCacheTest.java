@@ -0,0 +1,59 @@
+package com.sparta.userservice.global.cache;
+
+import com.sparta.userservice.repository.SlackAccountView;
+import com.sparta.userservice.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SlackAccountCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SlackAccountCache cache = new SlackAccountCache(userRepository, 1000, Duration.ofMinutes(1));
+
+    @Test
+    void 캐시에_없는_ID만_한번에_조회() {
+        when(userRepository.findSlackAccountsByUserIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> userIds = invocation.getArgument(0);
+            return userIds.stream().filter(userId -> userId != 3L).map(SlackAccountCacheTest::view).toList();
+        });
+
+        assertThat(cache.getAll(List.of(1L, 2L))).isEqualTo(Map.of(1L, "slack-1", 2L, "slack-2"));
+        assertThat(cache.getAll(List.of(1L, 2L, 3L))).isEqualTo(Map.of(1L, "slack-1", 2L, "slack-2"));
+
+        verify(userRepository, times(2)).findSlackAccountsByUserIdIn(any());
+        verify(userRepository).findSlackAccountsByUserIdIn(argThat(userIds -> userIds.size() == 1 && userIds.contains(3L)));
+    }
+
+    @Test
+    void 제거_후_다시_조회() {
+        when(userRepository.findSlackAccountsByUserIdIn(any())).thenReturn(List.of(view(1L)));
+
+        assertThat(cache.get(1L)).contains("slack-1");
+        cache.invalidate(1L);
+        assertThat(cache.get(1L)).contains("slack-1");
+
+        verify(userRepository, times(2)).findSlackAccountsByUserIdIn(any());
+    }
+
+    private static SlackAccountView view(Long userId) {
+        return new SlackAccountView() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getSlackAccountId() {
+                return "slack-" + userId;
+            }
+        };
+    }
+}
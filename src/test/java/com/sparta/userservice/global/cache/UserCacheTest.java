@@ -0,0 +1,56 @@
+package com.sparta.userservice.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.userservice.domain.User;
+import com.sparta.userservice.repository.UserRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static com.sparta.userservice.domain.UserRole.MASTER;
+import static com.sparta.userservice.domain.UserStatus.APPROVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class UserCacheTest {
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("test");
+    private final UserCache cache = new UserCache(
+            redis, new ObjectMapper(), userRepository,
+            new SlackAccountCache(userRepository, 1000, Duration.ofMinutes(1)),
+            circuitBreaker, 1000, Duration.ofMinutes(1), Duration.ofMinutes(10)
+    );
+
+    @Test
+    void 서킷이_열려_있으면_Redis_를_호출하지_않고_DB_조회() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user()));
+        circuitBreaker.transitionToOpenState();
+
+        assertThat(cache.findById(1L)).map(UserSnapshot::username).contains("master");
+        cache.put(UserSnapshot.from(user()));
+        cache.putAll(List.of(UserSnapshot.from(user())));
+
+        verifyNoInteractions(redis);
+        assertThat(circuitBreaker.getMetrics().getNumberOfNotPermittedCalls()).isPositive();
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private static User user() {
+        return User.builder()
+                .userId(1L)
+                .username("master")
+                .name("마스터")
+                .email("master@sparta.com")
+                .role(MASTER)
+                .status(APPROVE)
+                .version(0L)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.sparta.userservice.global.datasource;
+
+import com.sparta.userservice.global.config.DataSourceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 읽기/쓰기 라우팅 (커넥션 풀은 mock, 설정은 DataSourceConfig 와 동일한 LazyConnectionDataSourceProxy -> 라우팅 순서)
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadYourWritesWindow window = new ReadYourWritesWindow(Duration.ofMinutes(1), 1000);
+    private DataSource primary;
+    private DataSource replica;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = pool();
+        replica = pool();
+        dataSource = new DataSourceConfig().dataSource(primary, replica, window, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_레플리카() throws SQLException {
+        login("alice");
+
+        query(true);
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+        assertThat(meterRegistry.get("datasource.routing.reads").tag("target", "replica").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_프라이머리() throws SQLException {
+        login("alice");
+
+        query(false);
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void 쓰기_직후_같은_사용자의_읽기는_프라이머리_다른_사용자는_레플리카() throws SQLException {
+        login("alice");
+        query(false);
+        query(true);
+
+        verify(primary, times(2)).getConnection();
+        verify(replica, never()).getConnection();
+        assertThat(meterRegistry.get("datasource.routing.reads").tag("target", "primary").counter().count()).isEqualTo(1);
+
+        login("bob");
+        query(true);
+
+        verify(replica).getConnection();
+    }
+
+    @Test
+    void 쿼리가_없는_트랜잭션은_커넥션을_획득하지_않음() throws SQLException {
+        login("alice");
+
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> {
+        });
+
+        verify(primary, never()).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void 지연_프록시가_없으면_readOnly_등록_전에_커넥션을_골라_프라이머리로_감() throws SQLException {
+        // 트랜잭션 시작(doBegin) 시 커넥션을 얻고, readOnly 는 그 뒤에 등록된다. (DataSourceConfig 가 프록시로 감싸는 이유)
+        login("alice");
+        dataSource = new ReplicaRoutingDataSource(primary, replica, window, meterRegistry);
+
+        query(true);
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private void query(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        transaction.executeWithoutResult(status -> new JdbcTemplate(dataSource).execute("select 1"));
+    }
+
+    private static void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    private static DataSource pool() throws SQLException {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(invocation -> {
+            Connection connection = mock(Connection.class);
+            Statement statement = mock(Statement.class);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.execute(anyString())).thenReturn(false);
+            return connection;
+        });
+        return pool;
+    }
+}
@@ -0,0 +1,139 @@
+package com.sparta.userservice.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class JwtEngineTest {
+
+    private final JwtKeySet keySet = JwtKeySet.generate();
+    private final JwtEngine engine = new JwtEngine("user-service", keySet);
+
+    @Test
+    void 발급한_토큰을_jjwt_파서로_검증() {
+        Instant now = Instant.now();
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("x-name", "관리자 \"admin\"");
+        claims.put("x-hub-d", null);
+
+        String token = engine.sign("1", claims, now, now.plus(Duration.ofMinutes(15)));
+
+        Claims parsed = Jwts.parser()
+                .requireIssuer("user-service")
+                .verifyWith(keySet.active().publicKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        assertThat(parsed.getSubject()).isEqualTo("1");
+        assertThat(parsed.get("x-name", String.class)).isEqualTo("관리자 \"admin\"");
+        assertThat(parsed).doesNotContainKey("x-hub-d");
+        assertThat(parsed.getExpiration().toInstant().getEpochSecond())
+                .isEqualTo(now.plus(Duration.ofMinutes(15)).getEpochSecond());
+    }
+
+    @Test
+    void 빠른_경로_검증_결과가_jjwt_와_같음() {
+        Instant now = Instant.now();
+        String token = engine.sign("1", Map.of("x-role", "MASTER"), now, now.plus(Duration.ofMinutes(15)));
+
+        Claims fast = engine.parse(token);
+        Claims slow = engine.parser().parseSignedClaims(token).getPayload();
+        assertThat(fast.getSubject()).isEqualTo(slow.getSubject());
+        assertThat(fast.getIssuer()).isEqualTo(slow.getIssuer());
+        assertThat(fast.getExpiration()).isEqualTo(slow.getExpiration());
+        assertThat(fast.getIssuedAt()).isEqualTo(slow.getIssuedAt());
+        assertThat(fast.get("x-role", String.class)).isEqualTo("MASTER");
+    }
+
+    @Test
+    void 서명이_변조된_토큰은_거부() {
+        Instant now = Instant.now();
+        String token = engine.sign("1", Map.of(), now, now.plus(Duration.ofMinutes(15)));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> engine.parse(tampered))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void 키_교체_후에도_이전_kid_토큰을_검증() {
+        Instant now = Instant.now();
+        String oldToken = engine.sign("1", Map.of(), now, now.plus(Duration.ofMinutes(15)));
+
+        // 새 키를 활성화하고 이전 키는 검증 전용으로 유지
+        JwtKeySet.JwtKey oldKey = keySet.active();
+        JwtKeySet.JwtKey newKey = JwtKeySet.generate().active();
+        JwtEngine rotated = new JwtEngine("user-service", new JwtKeySet(
+                List.of(new JwtKeySet.JwtKey(oldKey.kid(), oldKey.publicKey(), null), newKey), newKey.kid()));
+
+        assertThat(rotated.parse(oldToken).getSubject()).isEqualTo("1");
+        assertThat(rotated.parser().parseSignedClaims(oldToken).getHeader().getKeyId()).isEqualTo(oldKey.kid());
+
+        String newToken = rotated.sign("2", Map.of(), now, now.plus(Duration.ofMinutes(15)));
+        assertThat(rotated.parser().parseSignedClaims(newToken).getHeader().getKeyId()).isEqualTo(newKey.kid());
+        // 이전 키만 아는 인스턴스는 새 kid 를 거부
+        assertThatThrownBy(() -> engine.parse(newToken))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    void 만료된_토큰은_거부() {
+        Instant issuedAt = Instant.now().minus(Duration.ofHours(1));
+        String token = engine.sign("1", Map.of(), issuedAt, issuedAt.plus(Duration.ofMinutes(15)));
+
+        assertThatThrownBy(() -> engine.parse(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void 만료된_토큰은_빠른_경로에서_클레임과_함께_거부() {
+        Instant issuedAt = Instant.now().minus(Duration.ofHours(1));
+        String token = engine.sign("1", Map.of("sid", "s1"), issuedAt, issuedAt.plus(Duration.ofMinutes(15)));
+
+        assertThatThrownBy(() -> engine.parse(token))
+                .isInstanceOfSatisfying(ExpiredJwtException.class, e -> {
+                    assertThat(e.getClaims().getSubject()).isEqualTo("1");
+                    assertThat(e.getClaims().get("sid", String.class)).isEqualTo("s1");
+                    assertThat(e.getHeader().get("kid")).isEqualTo(keySet.active().kid());
+                });
+    }
+
+    @Test
+    void 빠른_경로_실패_예외가_jjwt_와_같음() {
+        Instant now = Instant.now();
+        String valid = engine.sign("1", Map.of(), now, now.plus(Duration.ofMinutes(15)));
+        String signingInput = valid.substring(0, valid.lastIndexOf('.'));
+
+        List<String> invalid = List.of(
+                // 서명 변조
+                signingInput + "." + engine.sign("1", Map.of(), now.minusSeconds(1), now.plus(Duration.ofMinutes(15))).substring(signingInput.length() + 1),
+                // 서명 길이 오류
+                signingInput + ".AAAA",
+                // 만료
+                engine.sign("1", Map.of(), now.minus(Duration.ofHours(1)), now.minus(Duration.ofMinutes(45))),
+                // 다른 issuer
+                new JwtEngine("other-service", keySet).sign("1", Map.of(), now, now.plus(Duration.ofMinutes(15)))
+        );
+
+        for (String token : invalid) {
+            Throwable fast = catchThrowable(() -> engine.parse(token));
+            Throwable slow = catchThrowable(() -> engine.parser().parseSignedClaims(token));
+            assertThat(fast).as(token).isNotNull().isExactlyInstanceOf(slow.getClass());
+        }
+        assertThat(catchThrowable(() -> engine.parse(invalid.get(3)))).isInstanceOf(IncorrectClaimException.class);
+    }
+}
@@ -0,0 +1,36 @@
+package com.sparta.userservice.global.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.AlgorithmParameters;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPublicKeySpec;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeySetTest {
+
+    @Test
+    void 필드_크기가_같아도_P256_이_아닌_곡선이면_거부() throws Exception {
+        // secp256k1 공개키 (생성점을 공개키로 사용, 키 크기는 P-256 과 같은 256비트)
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256k1"));
+        ECParameterSpec secp256k1 = parameters.getParameterSpec(ECParameterSpec.class);
+        ECPublicKey publicKey = (ECPublicKey) KeyFactory.getInstance("EC")
+                .generatePublic(new ECPublicKeySpec(secp256k1.getGenerator(), secp256k1));
+        assertThat(publicKey.getParams().getCurve().getField().getFieldSize()).isEqualTo(256);
+
+        JwtKeySet.JwtKey active = JwtKeySet.generate().active();
+
+        assertThatThrownBy(() -> new JwtKeySet(List.of(active, new JwtKeySet.JwtKey("k1", publicKey, null)), active.kid()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("P-256")
+                .hasMessageContaining("kid=k1")
+                .hasMessageContaining("secp256k1");
+    }
+}
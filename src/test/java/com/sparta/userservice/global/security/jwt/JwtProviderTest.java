@@ -0,0 +1,42 @@
+package com.sparta.userservice.global.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtProviderTest {
+
+    @Test
+    void 키_저장소가_없으면_기동_실패() {
+        JwtProvider jwtProvider = jwtProvider(false);
+
+        assertThatThrownBy(jwtProvider::init)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("jwt.signing.key-store");
+    }
+
+    @Test
+    void 임시_키를_허용하면_키_저장소_없이_기동() {
+        JwtProvider jwtProvider = jwtProvider(true);
+
+        jwtProvider.init();
+
+        assertThat(jwtProvider.getKeySet().active().kid()).isNotBlank();
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private static JwtProvider jwtProvider(boolean ephemeralKey) {
+        JwtProvider jwtProvider = new JwtProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtProvider, "issuer", "user-service");
+        ReflectionTestUtils.setField(jwtProvider, "ephemeralKey", ephemeralKey);
+        ReflectionTestUtils.setField(jwtProvider, "verificationCacheSize", 1000L);
+        ReflectionTestUtils.setField(jwtProvider, "verificationCacheMaxTtl", Duration.ofMinutes(1));
+        return jwtProvider;
+    }
+}
@@ -0,0 +1,71 @@
+package com.sparta.userservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImportLineReaderTest {
+
+    @Test
+    void 큰따옴표로_감싼_필드의_쉼표는_분리하지_않음() {
+        assertThat(ImportLineReader.splitCsv("user01,\"홍, 길동\",a@b.com"))
+                .containsExactly("user01", "홍, 길동", "a@b.com");
+    }
+
+    @Test
+    void 큰따옴표_두_개는_이스케이프() {
+        assertThat(ImportLineReader.splitCsv("\"say \"\"hi\"\"\",\"\"\"\",x"))
+                .containsExactly("say \"hi\"", "\"", "x");
+    }
+
+    @Test
+    void 빈_필드와_끝_쉼표() {
+        assertThat(ImportLineReader.splitCsv(",a,,")).containsExactly("", "a", "", "");
+        assertThat(ImportLineReader.splitCsv("")).containsExactly("");
+    }
+
+    @Test
+    void 닫히지_않은_큰따옴표는_형식_오류() {
+        assertThatThrownBy(() -> ImportLineReader.splitCsv("user01,\"홍길동,a@b.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 줄바꿈_종류와_관계없이_줄_단위로_읽음() throws IOException {
+        ImportLineReader reader = new ImportLineReader(new StringReader("a\nb\r\nc\rd"), 10);
+
+        assertThat(reader.readLine()).isEqualTo("a");
+        assertThat(reader.readLine()).isEqualTo("b");
+        assertThat(reader.readLine()).isEqualTo("c");
+        assertThat(reader.readLine()).isEqualTo("d");
+        assertThat(reader.readLine()).isNull();
+    }
+
+    @Test
+    void 최대_길이를_넘은_줄은_잘라서_알리고_다음_줄부터_계속_읽음() throws IOException {
+        String overlong = "x".repeat(10_000);
+        ImportLineReader reader = new ImportLineReader(new StringReader("ok\n" + overlong + "\r\nnext\n"), 16);
+
+        assertThat(reader.readLine()).isEqualTo("ok");
+        assertThat(reader.overflowed()).isFalse();
+
+        assertThat(reader.readLine()).hasSize(16);
+        assertThat(reader.overflowed()).isTrue();
+
+        assertThat(reader.readLine()).isEqualTo("next");
+        assertThat(reader.overflowed()).isFalse();
+        assertThat(reader.readLine()).isNull();
+    }
+
+    @Test
+    void 최대_길이와_같은_줄은_허용() throws IOException {
+        ImportLineReader reader = new ImportLineReader(new StringReader("x".repeat(16)), 16);
+
+        assertThat(reader.readLine()).hasSize(16);
+        assertThat(reader.overflowed()).isFalse();
+    }
+}
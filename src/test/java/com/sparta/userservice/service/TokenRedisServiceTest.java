@@ -0,0 +1,367 @@
+package com.sparta.userservice.service;
+
+import com.sparta.userservice.global.cache.BlacklistEventListener;
+import com.sparta.userservice.global.cache.BlacklistNearCache;
+import com.sparta.userservice.global.exception.UserException;
+import com.sparta.userservice.global.security.jwt.JwtProvider;
+import com.sparta.userservice.global.security.jwt.VerifiedToken;
+import com.sparta.userservice.service.TokenRedisService.FailurePolicy;
+import com.sparta.userservice.service.TokenRedisService.RotateResult;
+import com.sparta.userservice.service.TokenRedisService.StoredSession;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.jsonwebtoken.Jwts;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.lettuce.core.resource.Delay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.sparta.userservice.global.response.ErrorCode.USER_TOKEN_STORE_UNAVAILABLE;
+import static com.sparta.userservice.global.security.jwt.JwtProvider.CLAIM_SESSION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세션 Lua 스크립트 및 Redis 장애 대응 검증 (로컬 Redis, 애플리케이션과 다른 database 사용)
+ * - Redis 에 연결할 수 없으면 건너뛴다. (docker compose up -d)
+ * - 장애는 스크립트 호출이 실패하는 템플릿(down) 또는 서킷 브레이커 상태 전환으로 흉내 낸다.
+ * - pub/sub 구독 끊김은 CLIENT KILL 로 구독 연결을 끊어 흉내 낸다.
+ */
+class TokenRedisServiceTest {
+
+    private static final int MAX_SESSIONS = 2;
+    private static final String SUBSCRIBER = "blacklist-subscriber-test";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static SwitchableRedisTemplate redis;
+
+    private final BlacklistNearCache nearCache = new BlacklistNearCache(1000, Duration.ofMinutes(1), 1000, 0.01, Duration.ofMinutes(15));
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("test");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtProvider jwtProvider;
+    private TokenRedisService service;
+    private String userId;
+
+    @BeforeAll
+    static void connect() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("test.redis.host", "localhost"),
+                Integer.getInteger("test.redis.port", 6379)
+        );
+        configuration.setDatabase(Integer.getInteger("test.redis.database", 15));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        redis = new SwitchableRedisTemplate(connectionFactory);
+
+        boolean available;
+        try {
+            available = "PONG".equals(redis.execute(connection -> connection.ping(), true));
+        } catch (Exception e) {
+            available = false;
+        }
+        assumeTrue(available, "로컬 Redis 없음");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = mock(JwtProvider.class);
+        when(jwtProvider.getAccessTokenValidity()).thenReturn(Duration.ofMinutes(15));
+        when(jwtProvider.getRefreshTokenValidity()).thenReturn(Duration.ofDays(14));
+
+        service = service(FailurePolicy.FAIL_OPEN);
+        userId = String.valueOf(ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redis.down = false;
+        redis.delete(redis.keys("*" + userId + "*"));
+    }
+
+    @Test
+    void 현재_토큰으로_교체() {
+        service.createSession(userId, "s1", "refresh-1", "device");
+
+        assertThat(service.rotateRefresh(presented("s1", "refresh-1"), "refresh-2")).isEqualTo(RotateResult.ROTATED);
+
+        String stored = (String) redis.opsForHash().get("sessions:" + userId, "s1");
+        assertThat(stored).startsWith(JwtProvider.digest("refresh-2") + "|").endsWith("|device");
+        assertThat(service.rotateRefresh(presented("s1", "refresh-2"), "refresh-3")).isEqualTo(RotateResult.ROTATED);
+    }
+
+    @Test
+    void 이전_토큰_재사용_시_해당_세션만_폐기() {
+        service.createSession(userId, "s1", "refresh-1", "device");
+        service.createSession(userId, "s2", "other", "device");
+        service.rotateRefresh(presented("s1", "refresh-1"), "refresh-2");
+
+        assertThat(service.rotateRefresh(presented("s1", "refresh-1"), "refresh-3")).isEqualTo(RotateResult.REUSED);
+
+        assertThat(sessionIds()).containsExactly("s2");
+        assertThat(redis.hasKey("blacklist:" + userId + ":s1")).isTrue();
+        assertThat(nearCache.isRevokedLocally(userId + ":s1")).isTrue();
+        // 폐기된 세션은 새 토큰으로도 교체 불가
+        assertThat(service.rotateRefresh(presented("s1", "refresh-2"), "refresh-3")).isEqualTo(RotateResult.NOT_FOUND);
+    }
+
+    @Test
+    void 최대_세션_수_초과_시_가장_오래_사용하지_않은_세션_폐기() throws InterruptedException {
+        service.createSession(userId, "s1", "refresh-1", "device");
+        Thread.sleep(2);
+        service.createSession(userId, "s2", "refresh-2", "device");
+        Thread.sleep(2);
+        // s1 재발급 -> s2 가 가장 오래 사용하지 않은 세션
+        service.rotateRefresh(presented("s1", "refresh-1"), "refresh-1b");
+        Thread.sleep(2);
+
+        List<String> evicted = service.createSession(userId, "s3", "refresh-3", "device");
+
+        assertThat(evicted).containsExactly("s2");
+        assertThat(sessionIds()).containsExactlyInAnyOrder("s1", "s3");
+        assertThat(redis.opsForZSet().size("sessions:lru:" + userId)).isEqualTo(MAX_SESSIONS);
+        assertThat(redis.hasKey("blacklist:" + userId + ":s2")).isTrue();
+        assertThat(redis.getExpire("sessions:" + userId)).isPositive();
+    }
+
+    @Test
+    void 전체_폐기() {
+        service.createSession(userId, "s1", "refresh-1", "device");
+        service.createSession(userId, "s2", "refresh-2", "device");
+
+        assertThat(service.revokeSessions(userId, List.of())).containsExactlyInAnyOrder("s1", "s2");
+
+        assertThat(redis.hasKey("sessions:" + userId)).isFalse();
+        assertThat(redis.opsForZSet().size("sessions:lru:" + userId)).isZero();
+        assertThat(redis.hasKey("blacklist:" + userId + ":s1")).isTrue();
+        assertThat(redis.hasKey("blacklist:" + userId + ":s2")).isTrue();
+        assertThat(service.revokeSessions(userId, List.of())).isEmpty();
+        assertThat(service.rotateRefresh(presented("s1", "refresh-1"), "refresh-3")).isEqualTo(RotateResult.NOT_FOUND);
+    }
+
+    // ============================== Redis 장애 ==============================
+
+    @Test
+    void 장애_중_전체_폐기는_폐기_시각_이전_발급_토큰을_로컬에서_거부() {
+        service.createSession(userId, "s1", "refresh-1", "device");
+        VerifiedToken before = access("s1", Instant.now().minusSeconds(1));
+
+        redis.down = true;
+        assertThat(service.revokeSessions(userId, List.of())).isEmpty();
+
+        assertThat(service.isBlacklisted(before)).isTrue();
+        // 폐기 이후 로그인한 토큰은 FAIL_OPEN 정책에 따라 허용
+        assertThat(service.isBlacklisted(access("s2", Instant.now().plusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    void 서킷이_열려_있으면_보류하고_닫힌_뒤_순서대로_반영() {
+        circuitBreaker.transitionToOpenState();
+
+        assertThat(service.createSession(userId, "s1", "refresh-1", "device")).isEmpty();
+        assertThat(service.revokeSessions(userId, List.of("s1"))).containsExactly("s1");
+        assertThat(service.isBlacklisted(access("s1", Instant.now()))).isTrue();
+        assertThat(service.isBlacklisted(access("s2", Instant.now()))).isFalse();
+        assertThatThrownBy(() -> service.rotateRefresh(presented("s1", "refresh-1"), "refresh-2"))
+                .isInstanceOf(UserException.class);
+
+        // 열린 동안은 반영 시도 안 함
+        service.reconcile();
+        assertThat(pendingWrites()).isEqualTo(2);
+        assertThat(redis.hasKey("blacklist:" + userId + ":s1")).isFalse();
+
+        circuitBreaker.transitionToClosedState();
+        service.reconcile();
+
+        assertThat(pendingWrites()).isZero();
+        assertThat(redis.hasKey("sessions:" + userId)).isFalse();
+        assertThat(redis.hasKey("blacklist:" + userId + ":s1")).isTrue();
+    }
+
+    @Test
+    void 반영_중_실패하면_남은_쓰기를_유지하고_다음_주기에_재시도() {
+        redis.down = true;
+        service.createSession(userId, "s1", "refresh-1", "device");
+        service.revokeSessions(userId, List.of());
+
+        service.reconcile();
+        assertThat(pendingWrites()).isEqualTo(2);
+
+        redis.down = false;
+        service.reconcile();
+
+        assertThat(pendingWrites()).isZero();
+        assertThat(redis.hasKey("sessions:" + userId)).isFalse();
+        assertThat(redis.hasKey("blacklist:" + userId + ":s1")).isTrue();
+    }
+
+    @Test
+    void FAIL_CLOSED_는_장애_중_로그인_거절_및_모든_토큰_거부() {
+        service = service(FailurePolicy.FAIL_CLOSED);
+        circuitBreaker.transitionToOpenState();
+
+        assertThatThrownBy(() -> service.createSession(userId, "s1", "refresh-1", "device"))
+                .isInstanceOfSatisfying(UserException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(USER_TOKEN_STORE_UNAVAILABLE));
+        assertThat(service.isBlacklisted(access("s1", Instant.now()))).isTrue();
+        assertThat(pendingWrites()).isZero();
+    }
+
+    // ============================== pub/sub 구독 끊김 ==============================
+
+    @Test
+    void 구독이_끊긴_동안_다른_인스턴스가_폐기한_토큰도_거부() throws Exception {
+        // 재연결을 늦춰 끊긴 동안 등록 이벤트가 유실되게 한다.
+        ClientResources clientResources = DefaultClientResources.builder()
+                .reconnectDelay(Delay.constant(Duration.ofSeconds(1)))
+                .build();
+        LettuceConnectionFactory subscriberFactory = new LettuceConnectionFactory(
+                connectionFactory.getStandaloneConfiguration(),
+                LettuceClientConfiguration.builder().clientName(SUBSCRIBER).clientResources(clientResources).build()
+        );
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        try {
+            subscriberFactory.afterPropertiesSet();
+            scheduler.initialize();
+            container.setConnectionFactory(subscriberFactory);
+            container.addMessageListener(
+                    new BlacklistEventListener(nearCache, service::resyncBlacklist, scheduler)
+                            .watch(clientResources.eventBus()),
+                    new ChannelTopic(TokenRedisService.CHANNEL_BLACKLIST)
+            );
+            container.afterPropertiesSet();
+            container.start();
+            await().atMost(Duration.ofSeconds(5)).until(nearCache::isSynced);
+
+            // 다른 인스턴스 (니어 캐시/서킷 별도)
+            TokenRedisService other = new TokenRedisService(
+                    redis, new BlacklistNearCache(1000, Duration.ofMinutes(1), 1000, 0.01, Duration.ofMinutes(15)),
+                    jwtProvider, MAX_SESSIONS, CircuitBreaker.ofDefaults("other"), FailurePolicy.FAIL_OPEN, 100,
+                    new SimpleMeterRegistry()
+            );
+            other.createSession(userId, "s1", "refresh-1", "device");
+
+            killSubscriber();
+            await().atMost(Duration.ofSeconds(5)).until(() -> !nearCache.isSynced());
+            other.revokeSessions(userId, List.of("s1"));
+
+            // 블룸 필터에는 없지만 동기화가 해제됐으므로 Redis 로 확인
+            assertThat(service.isBlacklisted(access("s1", Instant.now()))).isTrue();
+
+            // 재구독 -> 재동기화 후 블룸 필터에도 반영
+            await().atMost(Duration.ofSeconds(5)).until(nearCache::isSynced);
+            BlacklistNearCache.Stats before = nearCache.stats();
+            assertThat(service.isBlacklisted(access("s1", Instant.now()))).isTrue();
+            assertThat(nearCache.stats().bloomNegatives()).isEqualTo(before.bloomNegatives());
+        } finally {
+            container.destroy();
+            scheduler.destroy();
+            subscriberFactory.destroy();
+            clientResources.shutdown();
+        }
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private TokenRedisService service(FailurePolicy failurePolicy) {
+        return new TokenRedisService(
+                redis, nearCache, jwtProvider, MAX_SESSIONS, circuitBreaker, failurePolicy, 100, meterRegistry
+        );
+    }
+
+    private VerifiedToken presented(String sessionId, String token) {
+        return new VerifiedToken(
+                token,
+                JwtProvider.digest(token),
+                Jwts.claims().subject(userId).add(CLAIM_SESSION_ID, sessionId).build()
+        );
+    }
+
+    private VerifiedToken access(String sessionId, Instant issuedAt) {
+        return new VerifiedToken(
+                "access",
+                JwtProvider.digest("access"),
+                Jwts.claims().subject(userId).add(CLAIM_SESSION_ID, sessionId).issuedAt(Date.from(issuedAt)).build()
+        );
+    }
+
+    private static void killSubscriber() {
+        redis.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().getClientList().stream()
+                    .filter(client -> SUBSCRIBER.equals(client.getName()))
+                    .forEach(client -> {
+                        String[] address = client.getAddressPort().split(":");
+                        connection.serverCommands().killClient(address[0], Integer.parseInt(address[1]));
+                    });
+            return null;
+        });
+    }
+
+    private double pendingWrites() {
+        return meterRegistry.get("token.redis.pending_writes").gauge().value();
+    }
+
+    private List<String> sessionIds() {
+        return service.listSessions(userId).stream().map(StoredSession::sessionId).toList();
+    }
+
+    /**
+     * down 이면 스크립트/키 조회가 연결 실패로 끝나는 템플릿 (검증용 조회/정리는 그대로 동작)
+     */
+    static class SwitchableRedisTemplate extends StringRedisTemplate {
+
+        volatile boolean down;
+
+        SwitchableRedisTemplate(RedisConnectionFactory connectionFactory) {
+            super(connectionFactory);
+        }
+
+        @Override
+        public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+            failIfDown();
+            return super.execute(script, keys, args);
+        }
+
+        @Override
+        public Boolean hasKey(String key) {
+            failIfDown();
+            return super.hasKey(key);
+        }
+
+        private void failIfDown() {
+            if (down) {
+                throw new RedisConnectionFailureException("redis down");
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparta.userservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.userservice.dto.request.RejectUsersReqDto;
+import com.sparta.userservice.global.cache.SlackAccountCache;
+import com.sparta.userservice.global.cache.UserCache;
+import com.sparta.userservice.global.cache.UserSnapshot;
+import com.sparta.userservice.repository.UserBulkUpdateRepository;
+import com.sparta.userservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.sparta.userservice.domain.UserRole.DELIVERY_MANAGER;
+import static com.sparta.userservice.domain.UserStatus.REJECT;
+import static com.sparta.userservice.global.response.ErrorCode.USER_INTERNAL_SERVER_ERROR;
+import static com.sparta.userservice.global.response.ErrorCode.USER_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 상태 일괄 변경 스트리밍 응답 (저장소는 mock)
+ */
+class UserServiceTest {
+
+    private final UserBulkUpdateRepository userBulkUpdateRepository = mock(UserBulkUpdateRepository.class);
+    private final TokenService tokenService = mock(TokenService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Authentication auth = UsernamePasswordAuthenticationToken.authenticated("master", null, List.of());
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(
+                mock(UserRepository.class), mock(UserCache.class), mock(SlackAccountCache.class), mock(PasswordEncoder.class),
+                userBulkUpdateRepository, objectMapper, tokenService
+        );
+        ReflectionTestUtils.setField(userService, "statusChunkSize", 2);
+    }
+
+    @Test
+    void 처리_도중_실패하면_남은_회원을_failed_로_쓰고_error_로_종료() throws Exception {
+        // 1번 청크: 1 변경, 2 없음 / 2번 청크: 실패
+        Map<Long, UserSnapshot> firstChunk = new HashMap<>();
+        firstChunk.put(1L, snapshot(1L));
+        when(userBulkUpdateRepository.updateStatus(eq(List.of(1L, 2L)), eq(REJECT), anyString())).thenReturn(firstChunk);
+        when(userBulkUpdateRepository.updateStatus(eq(List.of(3L, 4L)), eq(REJECT), anyString()))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        userService.rejectUsers(request(1L, 2L, 3L, 4L, 5L), auth, out);
+
+        JsonNode result = objectMapper.readTree(out.toByteArray());
+        assertThat(result.get("completed")).extracting(JsonNode::asLong).containsExactly(1L);
+        assertThat(result.get("failed")).extracting(failure -> failure.get("userId").asLong()).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(result.get("failed").get(0).get("reason").asText()).isEqualTo(USER_NOT_FOUND.getDetails());
+        assertThat(result.get("failed").get(1).get("reason").asText()).isEqualTo(USER_INTERNAL_SERVER_ERROR.getDetails());
+        assertThat(result.get("error").asText()).isEqualTo(USER_INTERNAL_SERVER_ERROR.getDetails());
+        verify(userBulkUpdateRepository, times(2)).updateStatus(anyList(), eq(REJECT), anyString());
+        verify(tokenService).revokeAllSessions(1L, "status=REJECT");
+    }
+
+    @Test
+    void 예상하지_못한_예외는_JSON_을_닫지_않음() {
+        when(userBulkUpdateRepository.updateStatus(anyList(), eq(REJECT), anyString()))
+                .thenThrow(new IllegalStateException("boom"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> userService.rejectUsers(request(1L), auth, out)).isInstanceOf(IllegalStateException.class);
+
+        // 잘린 응답 (클라이언트가 JSON 파싱 실패로 중단을 알 수 있음)
+        assertThat(out.toString()).isEqualTo("{\"completed\":[");
+    }
+
+    // ============================== 유틸 메서드 ==============================
+
+    private static RejectUsersReqDto request(Long... userIds) {
+        return new RejectUsersReqDto(List.of(userIds));
+    }
+
+    private static UserSnapshot snapshot(Long userId) {
+        return new UserSnapshot(userId, "user" + userId, "회원", "user" + userId + "@sparta.com",
+                DELIVERY_MANAGER, REJECT, null, null, null, false, false, 1L);
+    }
+}